@@ -28,12 +28,15 @@ import org.constellation.configuration.AppProperty;
 import org.constellation.configuration.Application;
 import org.constellation.filter.CorsFilter;
 import org.constellation.services.logger.MDCFilter;
+import org.constellation.ws.rs.OGCMetricsFilter;
+import org.constellation.ws.rs.OGCMetricsListener;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.boot.web.servlet.ServletComponentScan;
+import org.springframework.boot.web.servlet.ServletListenerRegistrationBean;
 import org.springframework.boot.web.servlet.server.ServletWebServerFactory;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
 import org.springframework.context.annotation.Bean;
@@ -166,12 +169,30 @@ public class Examind extends SpringBootServletInitializer {
         return registration;
     }
 
+    @Bean
+    public FilterRegistrationBean metricsFilter() {
+        FilterRegistrationBean registration = new FilterRegistrationBean();
+        registration.setFilter(new OGCMetricsFilter());
+        registration.setName("OGCMetricsFilter");
+        registration.addUrlPatterns("/WS/*");
+        return registration;
+    }
+
 
     @Bean
     public GeotkInstaller geotkInstaller() {
         return new GeotkInstaller();
     }
 
+    /**
+     * Expose the OGC request metrics registry to the metrics admin servlet.
+     * The war bundles declare the same listener in their web.xml.
+     */
+    @Bean
+    public ServletListenerRegistrationBean<OGCMetricsListener> metricsRegistryInitializer() {
+        return new ServletListenerRegistrationBean<>(new OGCMetricsListener());
+    }
+
     @Bean
     public ServletRegistrationBean metricsServlet() {
         ServletRegistrationBean registration = new ServletRegistrationBean(new AdminServlet(), "/metrics/*");
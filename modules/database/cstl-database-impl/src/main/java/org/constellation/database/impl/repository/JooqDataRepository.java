@@ -472,7 +472,8 @@ public class JooqDataRepository extends AbstractJooqRespository<DataRecord, com.
             query = fquery;
         }
         
-        final int count = dsl.fetchCount(query);
+        // count on the identifiers only, without sorting the whole result
+        final int count = dsl.fetchCount(buildQuery(dsl.select(DATA.ID).from(DATA), filterMap));
         final Map.Entry<Integer,List<Data>> result = new AbstractMap.SimpleImmutableEntry<>(count,
                 convertDataListToDto(((SelectLimitStep) query).limit(rowsPerPage).offset((pageNumber - 1) * rowsPerPage).fetchInto(com.examind.database.api.jooq.tables.pojos.Data.class)));
         return result;
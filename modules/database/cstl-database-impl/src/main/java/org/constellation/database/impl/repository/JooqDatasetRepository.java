@@ -194,7 +194,7 @@ public class JooqDatasetRepository extends AbstractJooqRespository<DatasetRecord
             query = fquery;
         }
 
-        final int count = dsl.fetchCount(query);
+        final int count = dsl.fetchCount(buildQuery(dsl.select(DATASET.ID).from(DATASET).leftOuterJoin(CSTL_USER).on(CSTL_USER.ID.eq(DATASET.OWNER)), filterMap));
         final Map.Entry<Integer,List<DataSet>> result = new AbstractMap.SimpleImmutableEntry<>(count,
                 convertDatasetListToDto(((SelectLimitStep) query).limit(rowsPerPage).offset((pageNumber - 1) * rowsPerPage)
                                          .fetchInto(Dataset.class)));
@@ -319,7 +319,7 @@ public class JooqLayerRepository extends AbstractJooqRespository<LayerRecord, co
         } else {
             query = fquery;
         }
-        final int count = dsl.fetchCount(query);
+        final int count = dsl.fetchCount(buildQuery(dsl.select(LAYER.ID).from(LAYER), filterMap));
         final Map.Entry<Integer,List<Layer>> result = new AbstractMap.SimpleImmutableEntry<>(count,
                 convertListToDto(((SelectLimitStep) query).limit(rowsPerPage).offset((pageNumber - 1) * rowsPerPage).fetchInto(com.examind.database.api.jooq.tables.pojos.Layer.class)));
         return result;
@@ -271,7 +271,7 @@ public class JooqMapContextRepository extends AbstractJooqRespository<Mapcontext
             query = fquery;
         }
 
-        final int count = dsl.fetchCount(query);
+        final int count = dsl.fetchCount(buildQuery(dsl.select(MAPCONTEXT.ID).from(MAPCONTEXT).leftOuterJoin(CSTL_USER).on(MAPCONTEXT.OWNER.eq(CSTL_USER.ID)), filterMap));
         final Map.Entry<Integer,List<MapContextDTO>> result = new AbstractMap.SimpleImmutableEntry<>(count,
                 convertMCListToDto(((SelectLimitStep) query).limit(rowsPerPage).offset((pageNumber - 1) * rowsPerPage).fetchInto(Mapcontext.class)));
         return result;
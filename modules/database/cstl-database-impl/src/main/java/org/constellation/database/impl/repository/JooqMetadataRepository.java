@@ -551,7 +551,7 @@ public class JooqMetadataRepository extends AbstractJooqRespository<MetadataReco
             query = fquery;
         }
 
-        final int count = dsl.fetchCount(query);
+        final int count = dsl.fetchCount(buildQuery(dsl.select(METADATA.ID).from(METADATA), filterMap));
         final Map.Entry<Integer,List<Metadata>> result = new AbstractMap.SimpleImmutableEntry<>(count,
                     convertListToDto(((SelectLimitStep) query)
                                        .limit(rowsPerPage)
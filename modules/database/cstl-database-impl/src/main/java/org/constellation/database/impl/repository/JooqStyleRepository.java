@@ -316,7 +316,7 @@ public class JooqStyleRepository extends AbstractJooqRespository<StyleRecord, co
             query = fquery;
         }
 
-        final int count = dsl.fetchCount(query);
+        final int count = dsl.fetchCount(buildQuery(dsl.select(STYLE.ID).from(STYLE).leftOuterJoin(CSTL_USER).on(STYLE.OWNER.eq(CSTL_USER.ID)), filterMap));
         final Map.Entry<Integer,List<Style>> result = new AbstractMap.SimpleImmutableEntry<>(count,
                 convertStyleListToDto(((SelectLimitStep) query).limit(rowsPerPage).offset((pageNumber - 1) * rowsPerPage).fetchInto(com.examind.database.api.jooq.tables.pojos.Style.class)));
         return result;
@@ -0,0 +1,54 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.admin;
+
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.constellation.business.IClusterBusiness;
+import org.constellation.configuration.AppProperty;
+import org.constellation.configuration.Application;
+import org.constellation.exception.ConfigurationRuntimeException;
+
+/**
+ * Build the cluster business selected by the {@link AppProperty#EXA_CLUSTER_MODE} property.
+ */
+public final class ClusterBusinessFactory {
+
+    public static final String LOCAL_MODE = "local";
+    public static final String DATABASE_MODE = "database";
+
+    private ClusterBusinessFactory() {}
+
+    /**
+     * @param dataSource The configuration database, used by the {@link #DATABASE_MODE} mode.
+     * @return A {@link LocalClusterBusiness} by default, or a {@link DatabaseClusterBusiness}.
+     */
+    public static IClusterBusiness create(final DataSource dataSource) {
+        final String mode = Application.getProperty(AppProperty.EXA_CLUSTER_MODE, LOCAL_MODE).trim().toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case LOCAL_MODE: return new LocalClusterBusiness();
+            case DATABASE_MODE:
+                return new DatabaseClusterBusiness(dataSource,
+                        Application.getLongProperty(AppProperty.EXA_CLUSTER_POLL_INTERVAL, 1000L),
+                        Application.getLongProperty(AppProperty.EXA_CLUSTER_NODE_TIMEOUT, 30_000L));
+            default:
+                throw new ConfigurationRuntimeException("Unsupported cluster mode \"" + mode + "\", expecting \"" + LOCAL_MODE + "\" or \"" + DATABASE_MODE + "\".");
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.xml.namespace.QName;
@@ -121,6 +122,16 @@ public class DataBusiness implements IDataBusiness {
      */
     protected static final Logger LOGGER = Logger.getLogger("org.constellation.admin");
 
+    /**
+     * Already unserialized WKT crs of the cached data envelopes, shared by the {@link #getEnvelope(int)} calls.
+     */
+    private final Map<String, CoordinateReferenceSystem> envelopeCRS = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of entries in {@link #envelopeCRS}.
+     */
+    private static final int ENVELOPE_CRS_SIZE = 100;
+
     private static final List<MetadataFeeding> METADATA_FILL_STRATEGIES = Collections.unmodifiableList(Arrays.asList(
             (datasource, feeder) -> feeder.setExtent(datasource, MetadataFeeder.WriteOption.CREATE_NEW),
             (datasource, feeder) -> feeder.setSpatialRepresentation(datasource, MetadataFeeder.WriteOption.CREATE_NEW)
@@ -404,7 +415,7 @@ public class DataBusiness implements IDataBusiness {
         if (datas == null) {
             return dataBriefs;
         }
-        final Map<String, CoordinateReferenceSystem> crsMap = new HashMap<>();
+        final BriefLookup lookup = new BriefLookup();
         for (final Data data : datas) {
 
 
@@ -433,10 +444,9 @@ public class DataBusiness implements IDataBusiness {
                 * Look for linked services.
                 */
                 linkedDataList = dataRepository.getDataLinkedData(data.getId());
-                final List<Service> services = serviceRepository.findByDataId(data.getId());
+                final List<Service> services = new ArrayList<>(lookup.services(data.getId()));
                 for(final Data d : linkedDataList){
-                    final List<Service> servicesLinked = serviceRepository.findByDataId(d.getId());
-                    services.addAll(servicesLinked);
+                    services.addAll(lookup.services(d.getId()));
                 }
 
                 //use HashSet to avoid duplicated objects.
@@ -457,7 +467,7 @@ public class DataBusiness implements IDataBusiness {
                 }
             }
 
-            final DataBrief db = convertToDataBrief(data, targetSensors, linkedDataList, serviceRefs, crsMap, fetchDataDescription, fetchAssociations);
+            final DataBrief db = convertToDataBrief(data, targetSensors, linkedDataList, serviceRefs, lookup, fetchDataDescription, fetchAssociations);
             dataBriefs.add(db);
         }
         return dataBriefs;
@@ -467,15 +477,15 @@ public class DataBusiness implements IDataBusiness {
      * Convert a {@link Data} into a {@link DataBrief}.
      *
      * @param data given list of {@link Data}.
-     * @param crsMap a Map of already unserialized WKT crs. to avoid to perform the unserialization too many times.
+     * @param lookup values already read while building the previous briefs (CRS, owners, providers, ...).
 
      * @param fetchDataDescription Flag to add or not data dscription (high cost)
      * @return a {@link DataBrief}  never {@code null}.
      */
-    private DataBrief convertToDataBrief(Data data, List<String> targetSensors, final List<Data> linkedDataList, final Set<ServiceReference> serviceRefs, Map<String, CoordinateReferenceSystem> crsMap, Boolean fetchDataDescription, Boolean fetchAssociations) {
+    private DataBrief convertToDataBrief(Data data, List<String> targetSensors, final List<Data> linkedDataList, final Set<ServiceReference> serviceRefs, BriefLookup lookup, Boolean fetchDataDescription, Boolean fetchAssociations) {
        final DataBrief db = new DataBrief(data);
        
-       final String owner = userBusiness.findById(data.getOwnerId()).map(CstlUser::getLogin).orElse(null);
+       final String owner = lookup.owner(data.getOwnerId());
        db.setOwner(owner);
 
        if (Boolean.TRUE.equals(fetchDataDescription)) {
@@ -488,7 +498,7 @@ public class DataBusiness implements IDataBusiness {
                     }
                     Envelope cachedEnv = null;
                     if (data.getCachedInfo()) {
-                        cachedEnv = readEnvelope(data.getId(), data.getCrs(), crsMap).orElse(null);
+                        cachedEnv = readEnvelope(data.getId(), data.getCrs(), lookup.crsMap).orElse(null);
                     }
                      // List of elevations, times and dim_range values.
                     final List<Dimension> dimensions = new ArrayList<>();
@@ -498,13 +508,13 @@ public class DataBusiness implements IDataBusiness {
                      */
                     SortedSet<Date> dates = provData.getAvailableTimes();
                     if (dates != null && !(dates.isEmpty())) {
-                        synchronized(ISO8601_FORMAT) {
-                            final PeriodUtilities periodFormatter = new PeriodUtilities(ISO8601_FORMAT);
-                            final String defaut = ISO8601_FORMAT.format(dates.last());
-                            Dimension dim = new Dimension("time", "ISO8601", defaut, null);
-                            dim.setValue(periodFormatter.getDatesRespresentation(dates));
-                            dimensions.add(dim);
-                        }
+                        // use a copy of the format, to not lock other requests while formatting long time series
+                        final DateFormat dateFormat = (DateFormat) ISO8601_FORMAT.clone();
+                        final PeriodUtilities periodFormatter = new PeriodUtilities(dateFormat);
+                        final String defaut = dateFormat.format(dates.last());
+                        Dimension dim = new Dimension("time", "ISO8601", defaut, null);
+                        dim.setValue(periodFormatter.getDatesRespresentation(dates));
+                        dimensions.add(dim);
                     }
                     // TODO elevations and other dimensions
                     db.setDimensions(dimensions);
@@ -528,11 +538,11 @@ public class DataBusiness implements IDataBusiness {
        String title = (data.getNamespace() != null && !data.getNamespace().isEmpty())  ? data.getNamespace() + ':' + data.getName() : data.getName();
        Integer dsid = data.getDatasetId();
        if (dsid != null && dsid >= 0) {
-           String datasetId = datasetRepository.findById(dsid).getIdentifier();
+           String datasetId = lookup.dataset(dsid);
            title = datasetId + " / " + title;
        }
        final int providerId = data.getProviderId();
-       final String providerName = getProviderIdentifier(providerId);
+       final String providerName = lookup.provider(providerId);
        db.setTitle(title);
        db.setProvider(providerName);
 
@@ -542,9 +552,9 @@ public class DataBusiness implements IDataBusiness {
             final List<DataBrief> linkedBriefs = new ArrayList<>();
             for (final Data ld : linkedDataList) {
                 // do not return a complete brief for linked data.
-                DataBrief d = convertToDataBrief(ld, new ArrayList<>(), new ArrayList<>(), new HashSet<>(), crsMap, false, false);
+                DataBrief d = convertToDataBrief(ld, new ArrayList<>(), new ArrayList<>(), new HashSet<>(), lookup, false, false);
                 if ("pyramid".equalsIgnoreCase(d.getSubtype()) && !d.getRendered()) {
-                    final String pyramidProvId = getProviderIdentifier(d.getProviderId());
+                    final String pyramidProvId = lookup.provider(d.getProviderId());
                     db.setPyramidConformProviderId(pyramidProvId);
                 }
                 linkedBriefs.add(d);
@@ -569,9 +579,9 @@ public class DataBusiness implements IDataBusiness {
                 sb.setDate(style.getDate());
                 sb.setName(style.getName());
 
-                final Optional<CstlUser> userStyle = userBusiness.findById(style.getOwnerId());
-                if (userStyle.isPresent()) {
-                    sb.setOwner(userStyle.get().getLogin());
+                final String styleOwner = lookup.owner(style.getOwnerId());
+                if (styleOwner != null) {
+                    sb.setOwner(styleOwner);
                 }
                 styleBriefs.add(sb);
             }
@@ -586,6 +596,38 @@ public class DataBusiness implements IDataBusiness {
        return db;
     }
 
+    /**
+     * Values shared by the briefs of a same listing. Most of the listed data have the same owner, provider
+     * or dataset, this avoids to read them again from the database for each data.
+     * Not thread-safe, an instance is used by a single {@link #getDataBriefFrom} call.
+     */
+    private final class BriefLookup {
+        /**
+         * Already unserialized WKT crs.
+         */
+        private final Map<String, CoordinateReferenceSystem> crsMap = new HashMap<>();
+        private final Map<Integer, Optional<String>> owners = new HashMap<>();
+        private final Map<Integer, String> providers = new HashMap<>();
+        private final Map<Integer, String> datasets = new HashMap<>();
+        private final Map<Integer, List<Service>> services = new HashMap<>();
+
+        private String owner(final Integer userId) {
+            return owners.computeIfAbsent(userId, id -> userBusiness.findById(id).map(CstlUser::getLogin)).orElse(null);
+        }
+
+        private String provider(final int providerId) {
+            return providers.computeIfAbsent(providerId, DataBusiness.this::getProviderIdentifier);
+        }
+
+        private String dataset(final int datasetId) {
+            return datasets.computeIfAbsent(datasetId, id -> datasetRepository.findById(id).getIdentifier());
+        }
+
+        private List<Service> services(final int dataId) {
+            return services.computeIfAbsent(dataId, serviceRepository::findByDataId);
+        }
+    }
+
     /**
      * Returns provider identifier for given provider id.
      * @param providerId given provider id.
@@ -1152,10 +1194,12 @@ public class DataBusiness implements IDataBusiness {
      */
     @Override
     public Optional<Envelope> getEnvelope(int dataId) {
-        if (dataRepository.isCachedDataInfo(dataId)) {
-            final Data data = dataRepository.findById(dataId);
-            String crsWKT = data.getCrs();
-            return readEnvelope(dataId, crsWKT, new HashMap<>());
+        final Data data = dataRepository.findById(dataId);
+        if (data != null && Boolean.TRUE.equals(data.getCachedInfo())) {
+            if (envelopeCRS.size() >= ENVELOPE_CRS_SIZE) {
+                envelopeCRS.clear();
+            }
+            return readEnvelope(dataId, data.getCrs(), envelopeCRS);
         }
         return Optional.empty();
     }
@@ -1163,10 +1207,9 @@ public class DataBusiness implements IDataBusiness {
     private Optional<Envelope> readEnvelope(int dataId, String crsWKT, Map<String, CoordinateReferenceSystem> crsMap) {
         if (crsWKT != null) {
             try {
-                CoordinateReferenceSystem crs;
-                if (crsMap.containsKey(crsWKT)) {
-                    crs = crsMap.get(crsWKT);
-                } else {
+                // single lookup: the shared map can be cleared by another thread at any time
+                CoordinateReferenceSystem crs = crsMap.get(crsWKT);
+                if (crs == null) {
                     crs = CRS.fromWKT(crsWKT);
                     crsMap.put(crsWKT, crs);
                 }
@@ -0,0 +1,493 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.admin;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.apache.sis.util.ArgumentChecks;
+import org.apache.sis.util.collection.WeakValueHashMap;
+import org.constellation.business.ClusterMessage;
+import org.constellation.exception.ConfigurationRuntimeException;
+
+/**
+ * Messaging business shared by all the instances connected to the same configuration database.
+ * <ul>
+ *   <li>Messages are written in a table polled by the other nodes.</li>
+ *   <li>Locks are rows of a lock table, with a lease renewed by the owner heartbeat.</li>
+ *   <li>Each node writes a heartbeat in a node table, used to count the live members.</li>
+ * </ul>
+ * Only portable SQL is used, so the same tables work on PostgreSQL and HSQLDB.
+ * The tables are created by this class rather than by a migration patch, because the cluster
+ * lock is needed to protect the database migration itself.
+ * Nodes clocks are expected to be synchronized, the poll window tolerates a small drift.
+ */
+public class DatabaseClusterBusiness extends LocalClusterBusiness implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger("org.constellation.admin");
+
+    static final String MESSAGE_TABLE = "exa_cluster_message";
+    static final String LOCK_TABLE    = "exa_cluster_lock";
+    static final String NODE_TABLE    = "exa_cluster_node";
+
+    /**
+     * Messages are only used for live notifications, they are removed after this delay.
+     */
+    private static final long MESSAGE_RETENTION = 60_000;
+
+    /**
+     * Only classes of the application and of the JDK are expected in messages.
+     */
+    private static final ObjectInputFilter MESSAGE_FILTER = ObjectInputFilter.Config.createFilter("java.**;org.constellation.**;!*");
+
+    private final DataSource dataSource;
+    private final long pollInterval;
+    private final long nodeTimeout;
+
+    /**
+     * Messages from the other nodes are searched with an overlap of this duration over the previous poll,
+     * to tolerate clock drift and transactions committed late.
+     */
+    private final long pollWindow;
+
+    /**
+     * Identifiers of the messages already delivered in the current poll window, with their creation time.
+     * Only accessed by the poller thread.
+     */
+    private final Map<String,Long> delivered = new LinkedHashMap<>();
+    private final long startTime;
+    private long lastPoll;
+
+    private final WeakValueHashMap<String,DatabaseLock> locks = new WeakValueHashMap<>(String.class);
+    private final ScheduledExecutorService scheduler;
+
+    public DatabaseClusterBusiness(final DataSource dataSource, final long pollInterval, final long nodeTimeout) {
+        ArgumentChecks.ensureNonNull("dataSource", dataSource);
+        ArgumentChecks.ensureStrictlyPositive("pollInterval", pollInterval);
+        ArgumentChecks.ensureStrictlyPositive("nodeTimeout", nodeTimeout);
+        this.dataSource   = dataSource;
+        this.pollInterval = pollInterval;
+        this.nodeTimeout  = nodeTimeout;
+        this.pollWindow   = Math.max(5_000, pollInterval * 5);
+
+        createTables();
+        // the messages sent before this node started are ignored.
+        startTime = System.currentTimeMillis();
+        lastPoll = startTime;
+        heartbeat();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "examind-cluster-" + getMemberUID());
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        final long heartbeatInterval = Math.max(1, nodeTimeout / 3);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS);
+        LOGGER.log(Level.INFO, "Database cluster member {0} started.", getMemberUID());
+    }
+
+    private void createTables() {
+        try (Connection c = dataSource.getConnection()) {
+            createTable(c, MESSAGE_TABLE, "CREATE TABLE \"" + MESSAGE_TABLE + "\" ("
+                    + "\"id\" character varying(36) NOT NULL PRIMARY KEY, "
+                    + "\"member\" character varying(36) NOT NULL, "
+                    + "\"created\" bigint NOT NULL, "
+                    + "\"payload\" character varying(1048576) NOT NULL)");
+            createTable(c, LOCK_TABLE, "CREATE TABLE \"" + LOCK_TABLE + "\" ("
+                    + "\"name\" character varying(255) NOT NULL PRIMARY KEY, "
+                    + "\"member\" character varying(36) NOT NULL, "
+                    + "\"expiry\" bigint NOT NULL)");
+            createTable(c, NODE_TABLE, "CREATE TABLE \"" + NODE_TABLE + "\" ("
+                    + "\"member\" character varying(36) NOT NULL PRIMARY KEY, "
+                    + "\"heartbeat\" bigint NOT NULL)");
+        } catch (SQLException ex) {
+            throw new ConfigurationRuntimeException("Unable to create the cluster tables.", ex);
+        }
+    }
+
+    private static void createTable(final Connection c, final String table, final String ddl) throws SQLException {
+        try (Statement stmt = c.createStatement()) {
+            stmt.executeQuery("SELECT 1 FROM \"" + table + "\" WHERE 1=0").close();
+            return;
+        } catch (SQLException ex) {
+            LOGGER.log(Level.FINE, "Creating cluster table {0}", table);
+        }
+        try (Statement stmt = c.createStatement()) {
+            stmt.execute(ddl);
+        } catch (SQLException ex) {
+            // another node may have created the table concurrently.
+            try (Statement stmt = c.createStatement()) {
+                stmt.executeQuery("SELECT 1 FROM \"" + table + "\" WHERE 1=0").close();
+            } catch (SQLException ex2) {
+                ex.addSuppressed(ex2);
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Deliver the message to the listeners of this node, and write it for the other nodes.
+     */
+    @Override
+    public void publish(ClusterMessage message) {
+        super.publish(message);
+        final String payload;
+        try {
+            payload = serialize(message);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cluster message can not be serialized: " + message, ex);
+            return;
+        }
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement stmt = c.prepareStatement("INSERT INTO \"" + MESSAGE_TABLE + "\" (\"id\", \"member\", \"created\", \"payload\") VALUES (?, ?, ?, ?)")) {
+            stmt.setString(1, UUID.randomUUID().toString());
+            stmt.setString(2, getMemberUID());
+            stmt.setLong(3, System.currentTimeMillis());
+            stmt.setString(4, payload);
+            stmt.executeUpdate();
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Cluster message can not be sent to the other nodes: " + message, ex);
+        }
+    }
+
+    /**
+     * Deliver to the local listeners the messages sent by the other nodes since the last poll.
+     */
+    void poll() {
+        final long now = System.currentTimeMillis();
+        final long since = Math.max(startTime, lastPoll - pollWindow);
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement stmt = c.prepareStatement("SELECT \"id\", \"created\", \"payload\" FROM \"" + MESSAGE_TABLE + "\" "
+                     + "WHERE \"created\" > ? AND \"member\" <> ? ORDER BY \"created\"")) {
+            stmt.setLong(1, since);
+            stmt.setString(2, getMemberUID());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    final String id = rs.getString(1);
+                    if (delivered.putIfAbsent(id, rs.getLong(2)) != null) continue;
+                    final ClusterMessage message;
+                    try {
+                        message = deserialize(rs.getString(3));
+                    } catch (IOException | ClassNotFoundException ex) {
+                        LOGGER.log(Level.WARNING, "Unreadable cluster message " + id, ex);
+                        continue;
+                    }
+                    super.publish(message);
+                }
+            }
+            lastPoll = now;
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Unable to poll the cluster messages.", ex);
+        } catch (RuntimeException ex) {
+            // a failure must not cancel the scheduled poll.
+            LOGGER.log(Level.WARNING, ex.getMessage(), ex);
+        }
+        final Iterator<Long> it = delivered.values().iterator();
+        while (it.hasNext()) {
+            if (it.next() <= since) it.remove();
+        }
+    }
+
+    /**
+     * Update the heartbeat of this node, renew the lease of its locks and remove the obsolete rows.
+     */
+    void heartbeat() {
+        final long now = System.currentTimeMillis();
+        try (Connection c = dataSource.getConnection()) {
+            try (PreparedStatement stmt = c.prepareStatement("UPDATE \"" + NODE_TABLE + "\" SET \"heartbeat\" = ? WHERE \"member\" = ?")) {
+                stmt.setLong(1, now);
+                stmt.setString(2, getMemberUID());
+                if (stmt.executeUpdate() == 0) {
+                    try (PreparedStatement ins = c.prepareStatement("INSERT INTO \"" + NODE_TABLE + "\" (\"member\", \"heartbeat\") VALUES (?, ?)")) {
+                        ins.setString(1, getMemberUID());
+                        ins.setLong(2, now);
+                        ins.executeUpdate();
+                    }
+                }
+            }
+            try (PreparedStatement stmt = c.prepareStatement("UPDATE \"" + LOCK_TABLE + "\" SET \"expiry\" = ? WHERE \"member\" = ?")) {
+                stmt.setLong(1, now + nodeTimeout);
+                stmt.setString(2, getMemberUID());
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = c.prepareStatement("DELETE FROM \"" + MESSAGE_TABLE + "\" WHERE \"created\" < ?")) {
+                stmt.setLong(1, now - Math.max(MESSAGE_RETENTION, pollWindow * 2));
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = c.prepareStatement("DELETE FROM \"" + NODE_TABLE + "\" WHERE \"heartbeat\" < ?")) {
+                stmt.setLong(1, now - nodeTimeout * 10);
+                stmt.executeUpdate();
+            }
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Unable to update the cluster node heartbeat.", ex);
+        } catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * @return Number of nodes whose heartbeat is not older than the node timeout, including this one.
+     */
+    @Override
+    public int getMemberSize() {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement stmt = c.prepareStatement("SELECT COUNT(*) FROM \"" + NODE_TABLE + "\" WHERE \"heartbeat\" > ? OR \"member\" = ?")) {
+            stmt.setLong(1, System.currentTimeMillis() - nodeTimeout);
+            stmt.setString(2, getMemberUID());
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? Math.max(1, rs.getInt(1)) : 1;
+            }
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Unable to count the cluster nodes.", ex);
+            return 1;
+        }
+    }
+
+    @Override
+    public Lock acquireLock(String lockName) {
+        synchronized (locks) {
+            DatabaseLock lock = locks.get(lockName);
+            if (lock == null) {
+                lock = new DatabaseLock(lockName);
+                locks.put(lockName, lock);
+            }
+            return lock;
+        }
+    }
+
+    @Override
+    public ClusterMessage createRequest(String typeId, boolean expectResponse) {
+        return new DatabaseClusterMessage(getMemberUID(), typeId, expectResponse);
+    }
+
+    /**
+     * Stop the polling and the heartbeats without leaving the cluster, as a crashed node would.
+     */
+    void stopHeartbeat() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Stop the polling and remove this node from the cluster.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try (Connection c = dataSource.getConnection()) {
+            try (PreparedStatement stmt = c.prepareStatement("DELETE FROM \"" + NODE_TABLE + "\" WHERE \"member\" = ?")) {
+                stmt.setString(1, getMemberUID());
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = c.prepareStatement("DELETE FROM \"" + LOCK_TABLE + "\" WHERE \"member\" = ?")) {
+                stmt.setString(1, getMemberUID());
+                stmt.executeUpdate();
+            }
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Unable to unregister the cluster node.", ex);
+        }
+    }
+
+    private boolean tryInsertLock(final String name) {
+        final long now = System.currentTimeMillis();
+        try (Connection c = dataSource.getConnection()) {
+            try (PreparedStatement stmt = c.prepareStatement("DELETE FROM \"" + LOCK_TABLE + "\" WHERE \"name\" = ? AND \"expiry\" < ?")) {
+                stmt.setString(1, name);
+                stmt.setLong(2, now);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = c.prepareStatement("INSERT INTO \"" + LOCK_TABLE + "\" (\"name\", \"member\", \"expiry\") VALUES (?, ?, ?)")) {
+                stmt.setString(1, name);
+                stmt.setString(2, getMemberUID());
+                stmt.setLong(3, now + nodeTimeout);
+                stmt.executeUpdate();
+                return true;
+            } catch (SQLException ex) {
+                // integrity constraint violation : the lock is owned by another node.
+                if (ex.getSQLState() != null && ex.getSQLState().startsWith("23")) {
+                    return false;
+                }
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            throw new ConfigurationRuntimeException("Unable to acquire the cluster lock " + name, ex);
+        }
+    }
+
+    private void deleteLock(final String name) {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement stmt = c.prepareStatement("DELETE FROM \"" + LOCK_TABLE + "\" WHERE \"name\" = ? AND \"member\" = ?")) {
+            stmt.setString(1, name);
+            stmt.setString(2, getMemberUID());
+            stmt.executeUpdate();
+        } catch (SQLException ex) {
+            // the lease will expire if the node stops sending heartbeats.
+            LOGGER.log(Level.WARNING, "Unable to release the cluster lock " + name, ex);
+        }
+    }
+
+    static String serialize(final ClusterMessage message) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(message);
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    static ClusterMessage deserialize(final String payload) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+            ois.setObjectInputFilter(MESSAGE_FILTER);
+            return (ClusterMessage) ois.readObject();
+        }
+    }
+
+    /**
+     * A lock shared by all the nodes. Threads of this node are serialized by a local reentrant lock,
+     * the row of the lock table is only inserted by the first hold and deleted by the last release.
+     */
+    private final class DatabaseLock implements Lock {
+
+        private final String name;
+        private final ReentrantLock local = new ReentrantLock();
+
+        private DatabaseLock(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void lock() {
+            local.lock();
+            if (local.getHoldCount() > 1) return;
+            boolean interrupted = false;
+            try {
+                while (!tryInsertLock(name)) {
+                    try {
+                        Thread.sleep(pollInterval);
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+            } catch (RuntimeException ex) {
+                local.unlock();
+                throw ex;
+            } finally {
+                if (interrupted) Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (!tryLock(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+                throw new InterruptedException();
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!local.tryLock()) return false;
+            if (local.getHoldCount() > 1) return true;
+            final boolean acquired;
+            try {
+                acquired = tryInsertLock(name);
+            } catch (RuntimeException ex) {
+                local.unlock();
+                throw ex;
+            }
+            if (!acquired) local.unlock();
+            return acquired;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            final long start = System.nanoTime();
+            final long timeout = unit.toNanos(time);
+            if (!local.tryLock(time, unit)) return false;
+            if (local.getHoldCount() > 1) return true;
+            try {
+                while (!tryInsertLock(name)) {
+                    final long remaining = timeout - (System.nanoTime() - start);
+                    if (remaining <= 0) {
+                        local.unlock();
+                        return false;
+                    }
+                    Thread.sleep(Math.min(pollInterval, TimeUnit.NANOSECONDS.toMillis(remaining) + 1));
+                }
+                return true;
+            } catch (InterruptedException | RuntimeException ex) {
+                local.unlock();
+                throw ex;
+            }
+        }
+
+        @Override
+        public void unlock() {
+            if (!local.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException("Cluster lock " + name + " is not held by the current thread.");
+            }
+            try {
+                if (local.getHoldCount() == 1) {
+                    deleteLock(name);
+                }
+            } finally {
+                local.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported on cluster locks.");
+        }
+    }
+
+    /**
+     * A request message whose identifier is unique among all the nodes, so the responses of the
+     * other nodes can not be mistaken for responses to another request.
+     */
+    private static final class DatabaseClusterMessage extends ClusterMessage {
+
+        private static final long serialVersionUID = 1L;
+
+        private DatabaseClusterMessage(String memberUID, String typeId, boolean expectResponse) {
+            super(memberUID, typeId, (expectResponse ? ClusterMessage.Type.REQUEST_WITH_RESPONSE : ClusterMessage.Type.REQUEST_NO_RESPONSE));
+            messageUID = UUID.randomUUID().getMostSignificantBits();
+        }
+    }
+}
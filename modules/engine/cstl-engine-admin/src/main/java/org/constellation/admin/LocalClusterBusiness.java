@@ -17,11 +17,9 @@
  * limitations under the License.
  */
 package org.constellation.admin;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -53,7 +51,11 @@ public class LocalClusterBusiness implements IClusterBusiness{
     private final AtomicLong messageInc = new AtomicLong();
     private final AtomicLong listenerInc = new AtomicLong();
 
-    private final Map<String,MessageListener> listeners = new HashMap<>();
+    /**
+     * Registered listeners. A concurrent map is used so that publishing (very frequent, for example on task progress)
+     * does not need to lock nor copy the listeners.
+     */
+    private final Map<String,MessageListener> listeners = new ConcurrentHashMap<>();
     private final WeakValueHashMap<String,Lock> locks = new WeakValueHashMap<>(String.class);
 
     public LocalClusterBusiness(){}
@@ -77,12 +79,7 @@ public class LocalClusterBusiness implements IClusterBusiness{
 
     @Override
     public void publish(ClusterMessage message) {
-
-        final List<MessageListener> lst;
-        synchronized (listeners) {
-            lst = new ArrayList<>(listeners.values());
-        }
-        for (MessageListener listener : lst) {
+        for (MessageListener listener : listeners.values()) {
             try {
                 listener.receive(message);
             } catch(Exception ex) {
@@ -149,19 +146,15 @@ public class LocalClusterBusiness implements IClusterBusiness{
 
     @Override
     public boolean removeMessageListener(String uuid) {
-        synchronized (listeners) {
-            return listeners.remove(uuid) != null;
-        }
+        return listeners.remove(uuid) != null;
     }
 
     @Override
     public String addMessageListener(MessageListener listener) {
         ArgumentChecks.ensureNonNull("listener", listener);
-        synchronized (listeners) {
-            final String uuid = Long.toString(listenerInc.incrementAndGet());
-            listeners.put(uuid, listener);
-            return uuid;
-        }
+        final String uuid = Long.toString(listenerInc.incrementAndGet());
+        listeners.put(uuid, listener);
+        return uuid;
     }
 
     @Override
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -608,16 +609,10 @@ public class ProviderBusiness implements IProviderBusiness {
                     }
                 }
                 // Add not registered new sensor.
+                final Map<String, List<GenericName>> sensorNames = namesByTip(sensors.stream().map(Sensor::getIdentifier).toList());
                 Set<GenericName> copyKeys = new HashSet<>(keys);
                 for (final GenericName key : copyKeys) {
-                    boolean found = false;
-                    for (final Sensor sensor : sensors) {
-                        if (NamesExt.match(key, NamesExt.create(sensor.getIdentifier()))) {
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
+                    if (!isRegistered(key, sensorNames)) {
                         SensorData sData = (SensorData) sensorProvider.get(key);
                         Object sml = sData.getSensorMetadata();
                         if (sml != null) {
@@ -655,16 +650,10 @@ public class ProviderBusiness implements IProviderBusiness {
                 metadataBusiness.deleteMetadata(toRemove);
 
                 // Add not registered new metadata.
+                final Map<String, List<GenericName>> metadataNames = namesByTip(metadatas.stream().map(MetadataBrief::getFileIdentifier).toList());
                 Set<GenericName> copyKeys = new HashSet<>(keys);
                 for (final GenericName key : copyKeys) {
-                    boolean found = false;
-                    for (final MetadataBrief metadata : metadatas) {
-                        if (NamesExt.match(key, NamesExt.create(metadata.getFileIdentifier()))) {
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
+                    if (!isRegistered(key, metadataNames)) {
                         MetadataData mData = (MetadataData) metadataProvider.get(key);
                         Node n = mData == null? null : mData.getMetadata();
                         if (n != null) {
@@ -737,6 +726,41 @@ public class ProviderBusiness implements IProviderBusiness {
         return datasetId;
     }
 
+    /**
+     * Group the names built from the given identifiers by their tip.
+     * Two names can only match if they share the same tip, this allows to compare a provider key
+     * to the few registered names having the same tip instead of all of them.
+     *
+     * @param identifiers Identifiers of the registered sensors or metadata.
+     * @return Names by tip.
+     */
+    private static Map<String, List<GenericName>> namesByTip(final List<String> identifiers) {
+        final Map<String, List<GenericName>> results = new HashMap<>();
+        for (final String identifier : identifiers) {
+            final GenericName name = NamesExt.create(identifier);
+            results.computeIfAbsent(name.tip().toString(), k -> new ArrayList<>()).add(name);
+        }
+        return results;
+    }
+
+    /**
+     * Return {@code true} if the provider key matches one of the registered names.
+     *
+     * @param key A provider key.
+     * @param namesByTip Registered names, grouped by tip (see {@link #namesByTip(List)}).
+     */
+    private static boolean isRegistered(final GenericName key, final Map<String, List<GenericName>> namesByTip) {
+        final List<GenericName> candidates = namesByTip.get(key.tip().toString());
+        if (candidates != null) {
+            for (final GenericName candidate : candidates) {
+                if (NamesExt.match(key, candidate)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public List<Style> getStylesFromProviderId(Integer providerId) {
         return styleRepository.findByProvider(providerId);
@@ -62,6 +62,7 @@ import org.geotoolkit.coverage.xmlstore.XMLCoverageResource;
 import org.geotoolkit.coverage.xmlstore.XMLCoverageStore;
 import org.geotoolkit.coverage.xmlstore.XMLCoverageStoreFactory;
 import org.geotoolkit.map.MapBuilder;
+import org.apache.sis.map.MapItem;
 import org.apache.sis.map.MapLayers;
 import org.apache.sis.style.Style;
 import org.constellation.api.ProviderType;
@@ -331,7 +332,7 @@ public class PyramidBusiness implements IPyramidBusiness {
             throw new ConstellationException("No pyramid data has been created.");
         }
 
-        return buildTilingProcess(userId, (PyramidData) pyData, context, tilingMode, pyDataId);
+        return buildTilingProcess(userId, (PyramidData) pyData, context, tilingMode, pyDataId, null);
     }
 
     private static final class TilingContext {
@@ -345,13 +346,87 @@ public class PyramidBusiness implements IPyramidBusiness {
         }
     }
 
-    private TilingContext buildTilingProcess(Integer userId, PyramidData pyData, MapLayers context, TilingMode mode, Integer pyDataId) throws ConstellationException {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TilingResult updatePyramid(Integer userId, int pyramidDataId, Envelope area) throws ConstellationException {
+
+        // this method need to be executed in a transaction
+        TilingContext t = preparePyramidUpdate(userId, pyramidDataId, area);
+
+        //add task in scheduler (previous transaction must be commited)
+        processBusiness.runProcess("Update pyramid.", t.p, t.taskId, userId);
+
+        return new TilingResult(t.taskId, t.pyDataId);
+    }
+
+    @Transactional
+    private TilingContext preparePyramidUpdate(Integer userId, int pyramidDataId, Envelope area) throws ConstellationException {
+        if (area == null) {
+            throw new ConstellationException("Missing area to update.");
+        }
+        final org.constellation.dto.Data pyramid = dataBusiness.getData(pyramidDataId);
+        final Data pyData = DataProviders.getProviderData(pyramidDataId);
+        if (!(pyData instanceof PyramidData)) {
+            throw new ConstellationException("Data " + pyramidDataId + " is not a pyramid.");
+        }
+        final TilingMode tilingMode = Boolean.TRUE.equals(pyramid.getRendered()) ? RENDERED : CONFORM;
+
+        // rebuild the map context from the data used to generate the pyramid
+        final List<Integer> dataIds = dataRepository.getParents(pyramidDataId);
+        if (dataIds.isEmpty()) {
+            throw new ConstellationException("No source data found for pyramid " + pyramidDataId + ".");
+        }
+        MapLayers context = MapBuilder.createContext();
+        for (final Integer dataId : dataIds) {
+            final Data inData = DataProviders.getProviderData(dataId);
+            if (inData == null) {
+                throw new ConstellationException("Source data " + dataId + " of pyramid " + pyramidDataId + " does not exist in provider.");
+            }
+            final MapItem item;
+            if (RENDERED.equals(tilingMode)) {
+                //if style is null, a default style will be used in maplayer.
+                Style style = null;
+                try {
+                    final StyleBrief styleB = dataBusiness.getDataBrief(dataId, false, true).getFirstStyle();
+                    if (styleB != null && styleB.getId() != null) {
+                        style = styleBusiness.getStyle(styleB.getId());
+                    }
+                } catch (Exception ex) {
+                    LOGGER.log(Level.WARNING, ex.getLocalizedMessage(), ex);
+                }
+                item = inData.getMapLayer(style);
+            } else if (inData instanceof CoverageData cd) {
+                item = cd.getMapLayer(null, true);
+            } else {
+                throw new ConstellationException("Cannot update pyramid conform for no raster data, it is not supported yet!");
+            }
+            // pyramid generated from a map context
+            if (dataIds.size() == 1 && item instanceof MapLayers mc) {
+                context = mc;
+            } else {
+                context.getComponents().add(item);
+            }
+        }
+        context.setIdentifier("Update of pyramid " + pyramid.getName() + " (" + pyramidDataId + ")");
+
+        return buildTilingProcess(userId, (PyramidData) pyData, context, tilingMode, pyramidDataId, area);
+    }
+
+    /**
+     * @param area Area to (re)generate, or {@code null} to generate all the tiles of the pyramid.
+     */
+    private TilingContext buildTilingProcess(Integer userId, PyramidData pyData, MapLayers context, TilingMode mode, Integer pyDataId, Envelope area) throws ConstellationException {
         try {
             final ProcessDescriptor desc = ProcessFinder.getProcessDescriptor("administration", "gen-pyramid");
             final ParameterValueGroup input = desc.getInputDescriptor().createValue();
             input.parameter("mapcontext").setValue(context);
             input.parameter("resource").setValue(pyData.getOrigin());
             input.parameter("mode").setValue(mode.name());
+            if (area != null) {
+                input.parameter("envelope").setValue(area);
+            }
             final org.geotoolkit.process.Process p = desc.createProcess(input);
 
             //add task in scheduler
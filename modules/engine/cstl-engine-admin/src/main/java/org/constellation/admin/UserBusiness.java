@@ -20,6 +20,9 @@ package org.constellation.admin;
 
 import java.util.List;
 import java.util.Optional;
+import org.constellation.business.ClusterMessage;
+import static org.constellation.business.ClusterMessageConstant.*;
+import org.constellation.business.IClusterBusiness;
 import org.constellation.business.IUserBusiness;
 import org.constellation.dto.CstlUser;
 import org.constellation.dto.UserWithRole;
@@ -28,6 +31,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  *
@@ -40,6 +45,9 @@ public class UserBusiness implements IUserBusiness {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    private IClusterBusiness clusterBusiness;
+
     @Override
     public List<CstlUser> findAll() {
         return userRepository.findAll();
@@ -48,31 +56,74 @@ public class UserBusiness implements IUserBusiness {
     @Override
     @Transactional
     public Integer create(UserWithRole user) {
-        return userRepository.create(user);
+        final Integer userId = userRepository.create(user);
+        fireUserUpdated(userId, user.getLogin());
+        return userId;
     }
 
     @Override
     @Transactional
     public void update(UserWithRole user) {
+        final String previousLogin = getLogin(user.getId());
         userRepository.update(user);
+        fireUserUpdated(user.getId(), previousLogin);
+        if (user.getLogin() != null && !user.getLogin().equals(previousLogin)) {
+            fireUserUpdated(user.getId(), user.getLogin());
+        }
     }
 
     @Override
     @Transactional
     public int delete(int userId) {
-        return userRepository.delete(userId);
+        final String login = getLogin(userId);
+        final int result = userRepository.delete(userId);
+        fireUserUpdated(userId, login);
+        return result;
     }
 
     @Override
     @Transactional
     public int desactivate(int userId) {
-        return userRepository.desactivate(userId);
+        final int result = userRepository.desactivate(userId);
+        fireUserUpdated(userId, getLogin(userId));
+        return result;
     }
 
     @Override
     @Transactional
     public int activate(int userId) {
-        return userRepository.activate(userId);
+        final int result = userRepository.activate(userId);
+        fireUserUpdated(userId, getLogin(userId));
+        return result;
+    }
+
+    private String getLogin(Integer userId) {
+        return userId != null ? userRepository.findById(userId).map(CstlUser::getLogin).orElse(null) : null;
+    }
+
+    /**
+     * Notify the cluster that a user has changed, so the cached user informations and tokens can be evicted.
+     * When called in a transaction, the message is sent after the commit, so the receivers reload the committed
+     * user, and nothing is sent if the transaction is rolled back.
+     *
+     * @param userId Identifier of the modified user.
+     * @param login Login of the modified user, or {@code null} if unknown to evict all the users.
+     */
+    private void fireUserUpdated(Integer userId, String login) {
+        final ClusterMessage request = clusterBusiness.createRequest(USR_MESSAGE_TYPE_ID, false);
+        request.put(KEY_ACTION, USR_VALUE_ACTION_UPDATED);
+        request.put(KEY_IDENTIFIER, userId);
+        request.put(USR_KEY_LOGIN, login);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clusterBusiness.publish(request);
+                }
+            });
+        } else {
+            clusterBusiness.publish(request);
+        }
     }
 
     @Override
@@ -28,6 +28,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.constellation.admin.SpringHelper;
+import org.constellation.configuration.AppProperty;
+import org.constellation.configuration.Application;
 import org.constellation.dto.process.TaskStatus;
 import org.constellation.api.TaskState;
 import org.constellation.business.IProcessBusiness;
@@ -194,7 +196,7 @@ public class QuartzJobListener implements JobListener, CstlJobListener {
     /**
      * Catch process events and set them in the TaskState.
      */
-    private static class StateListener implements ProcessListener {
+    static class StateListener implements ProcessListener {
 
         private final String title;
         private final Task taskEntity;
@@ -204,13 +206,23 @@ public class QuartzJobListener implements JobListener, CstlJobListener {
         /** Used to store eventual warnings process could send us. */
         private final ArrayList<ProcessEvent> warnings = new ArrayList<>();
 
+        /** Minimal time (in milliseconds) between two persisted progress events. */
+        private final long progressInterval;
+
+        /** Time of the last task update sent to the database and the cluster. */
+        private long lastUpdate;
+
         public StateListener(String taskId, String title, IClusterBusiness clusterBusiness) {
-            if (processBusiness == null) {
-                this.processBusiness = SpringHelper.getBean(IProcessBusiness.class).orElseThrow(IllegalStateException::new);
-            }
+            this(taskId, title, SpringHelper.getBean(IProcessBusiness.class).orElseThrow(IllegalStateException::new), clusterBusiness,
+                 Application.getLongProperty(AppProperty.EXA_TASK_PROGRESS_UPDATE_INTERVAL, 500L));
+        }
+
+        StateListener(String taskId, String title, IProcessBusiness processBusiness, IClusterBusiness clusterBusiness, long progressInterval) {
+            this.processBusiness = processBusiness;
             this.clusterBusiness = clusterBusiness;
             this.taskEntity = processBusiness.getTask(taskId);
             this.title = title;
+            this.progressInterval = progressInterval;
         }
 
         @Override
@@ -241,8 +253,13 @@ public class QuartzJobListener implements JobListener, CstlJobListener {
                     taskEntity.setMessage(msg);
                     taskEntity.setTaskOutput(output);
                     if (progress != null) taskEntity.setProgress(progress);
-                    if (event.getException() != null) warnings.add(event);
-                    updateTask(taskEntity);
+                    final boolean warning = event.getException() != null;
+                    if (warning) warnings.add(event);
+                    // fine-grained progress events are coalesced: the entity is always up to date in memory,
+                    // but it is only persisted if enough time has passed since the last update (or on warning).
+                    if (warning || System.currentTimeMillis() - lastUpdate >= progressInterval) {
+                        updateTask(taskEntity);
+                    }
                 }
             }
         }
@@ -353,6 +370,7 @@ public class QuartzJobListener implements JobListener, CstlJobListener {
             final ClusterMessage request = clusterBusiness.createRequest(PRC_TASK,false);
             request.addComplexObject(PRC_TASK_STATUS, taskStatus);
             clusterBusiness.publish(request);
+            lastUpdate = System.currentTimeMillis();
         }
 
         /**
@@ -0,0 +1,207 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.admin;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+import javax.sql.DataSource;
+import org.constellation.business.ClusterMessage;
+import org.constellation.business.IClusterBusiness;
+import org.constellation.business.MessageListener;
+import org.constellation.configuration.AppProperty;
+import org.constellation.util.SQLUtilities;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Two cluster members sharing an in memory database.
+ */
+public class DatabaseClusterBusinessTest {
+
+    private static final String TYPE_ID = "test-message";
+
+    private static DataSource dataSource;
+
+    @BeforeClass
+    public static void init() {
+        dataSource = SQLUtilities.getDataSource("jdbc:hsqldb:mem:clustertest");
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (dataSource instanceof AutoCloseable ac) {
+            ac.close();
+        }
+    }
+
+    @Test
+    public void messageTest() throws Exception {
+        try (DatabaseClusterBusiness node1 = new DatabaseClusterBusiness(dataSource, 50, 5_000);
+             DatabaseClusterBusiness node2 = new DatabaseClusterBusiness(dataSource, 50, 5_000)) {
+
+            final List<ClusterMessage> received1 = new CopyOnWriteArrayList<>();
+            final List<ClusterMessage> received2 = new CopyOnWriteArrayList<>();
+            node1.addMessageListener(new TestListener(node1, received1));
+            node2.addMessageListener(new TestListener(node2, received2));
+
+            final ClusterMessage message = node1.createRequest(TYPE_ID, false);
+            message.put("value", 42);
+            node1.publish(message);
+
+            Assert.assertTrue(waitFor(() -> received2.size() == 1));
+            Assert.assertEquals(42, received2.get(0).get("value"));
+            Assert.assertEquals(node1.getMemberUID(), received2.get(0).getMemberUID());
+
+            // delivered locally once, and never polled back by its sender
+            Thread.sleep(300);
+            Assert.assertEquals(1, received1.size());
+            Assert.assertEquals(1, received2.size());
+        }
+    }
+
+    @Test
+    public void requestResponseTest() throws Exception {
+        try (DatabaseClusterBusiness node1 = new DatabaseClusterBusiness(dataSource, 50, 5_000);
+             DatabaseClusterBusiness node2 = new DatabaseClusterBusiness(dataSource, 50, 5_000)) {
+
+            node1.addMessageListener(new TestListener(node1, new CopyOnWriteArrayList<>()));
+            node2.addMessageListener(new TestListener(node2, new CopyOnWriteArrayList<>()));
+            Assert.assertEquals(2, node1.getMemberSize());
+
+            final List<String> responders = new CopyOnWriteArrayList<>();
+            node1.publishAndWait(node1.createRequest(TYPE_ID, true), 10, TimeUnit.SECONDS, response -> responders.add(response.getMemberUID()));
+
+            Assert.assertEquals(2, responders.size());
+            Assert.assertTrue(responders.contains(node1.getMemberUID()));
+            Assert.assertTrue(responders.contains(node2.getMemberUID()));
+        }
+    }
+
+    @Test
+    public void lockTest() throws Exception {
+        try (DatabaseClusterBusiness node1 = new DatabaseClusterBusiness(dataSource, 50, 5_000);
+             DatabaseClusterBusiness node2 = new DatabaseClusterBusiness(dataSource, 50, 5_000)) {
+
+            final Lock lock1 = node1.acquireLock("test-lock");
+            final Lock lock2 = node2.acquireLock("test-lock");
+            Assert.assertSame(lock1, node1.acquireLock("test-lock"));
+
+            lock1.lock();
+            try {
+                // reentrant on the owner node
+                Assert.assertTrue(lock1.tryLock());
+                lock1.unlock();
+                Assert.assertFalse(runInThread(lock2::tryLock));
+                Assert.assertFalse(runInThread(() -> {
+                    try {
+                        return lock2.tryLock(200, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException ex) {
+                        return false;
+                    }
+                }));
+            } finally {
+                lock1.unlock();
+            }
+            Assert.assertTrue(lock2.tryLock());
+            lock2.unlock();
+        }
+    }
+
+    @Test
+    public void heartbeatTest() throws Exception {
+        try (DatabaseClusterBusiness node1 = new DatabaseClusterBusiness(dataSource, 50, 600)) {
+            final DatabaseClusterBusiness node2 = new DatabaseClusterBusiness(dataSource, 50, 600);
+            Assert.assertEquals(2, node1.getMemberSize());
+
+            // a dead node is no longer counted, and its locks are released when their lease expires
+            final Lock lock2 = node2.acquireLock("dead-lock");
+            lock2.lock();
+            node2.stopHeartbeat();
+            Assert.assertTrue(waitFor(() -> node1.getMemberSize() == 1));
+            final Lock lock1 = node1.acquireLock("dead-lock");
+            Assert.assertTrue(lock1.tryLock(5, TimeUnit.SECONDS));
+            lock1.unlock();
+            node2.close();
+        }
+    }
+
+    @Test
+    public void factoryTest() throws Exception {
+        Assert.assertEquals(LocalClusterBusiness.class, ClusterBusinessFactory.create(dataSource).getClass());
+
+        System.setProperty(AppProperty.EXA_CLUSTER_MODE.getKey(), ClusterBusinessFactory.DATABASE_MODE);
+        try {
+            final IClusterBusiness business = ClusterBusinessFactory.create(dataSource);
+            Assert.assertTrue(business instanceof DatabaseClusterBusiness);
+            ((DatabaseClusterBusiness) business).close();
+        } finally {
+            System.clearProperty(AppProperty.EXA_CLUSTER_MODE.getKey());
+        }
+    }
+
+    private static boolean runInThread(final BooleanSupplier action) throws InterruptedException {
+        final AtomicBoolean result = new AtomicBoolean();
+        final Thread t = new Thread(() -> result.set(action.getAsBoolean()));
+        t.start();
+        t.join();
+        return result.get();
+    }
+
+    private static boolean waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < end) {
+            if (condition.getAsBoolean()) return true;
+            Thread.sleep(20);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private static class TestListener extends MessageListener {
+
+        private final IClusterBusiness business;
+        private final List<ClusterMessage> received;
+
+        private TestListener(IClusterBusiness business, List<ClusterMessage> received) {
+            this.business = business;
+            this.received = received;
+        }
+
+        @Override
+        protected IClusterBusiness getClusterBusiness() {
+            return business;
+        }
+
+        @Override
+        protected boolean filter(ClusterMessage event) {
+            return event.isRequest() && TYPE_ID.equals(event.getTypeId());
+        }
+
+        @Override
+        protected ClusterMessage process(ClusterMessage event) {
+            received.add(event);
+            return event.expectResponse() ? event.createResponse(business) : null;
+        }
+    }
+}
@@ -19,15 +19,22 @@
 package org.constellation.admin;
 
 import java.awt.image.RenderedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import java.util.logging.Level;
 import jakarta.annotation.PostConstruct;
 import javax.imageio.ImageIO;
 import org.apache.sis.coverage.grid.GridCoverage;
 import org.apache.sis.coverage.grid.GridExtent;
 import org.apache.sis.coverage.grid.GridGeometry;
+import org.apache.sis.geometry.GeneralEnvelope;
 import org.apache.sis.storage.GridCoverageResource;
 import org.apache.sis.storage.tiling.TileMatrixSet;
 import org.constellation.api.TaskState;
@@ -45,6 +52,7 @@ import org.geotoolkit.util.NamesExt;
 import org.junit.Assert;
 import org.junit.Test;
 import org.apache.sis.coverage.grid.PixelInCell;
+import org.opengis.geometry.Envelope;
 import org.opengis.util.GenericName;
 
 /**
@@ -450,4 +458,77 @@ public class PyramidBusinessTest extends AbstractBusinessTest {
         Assert.assertFalse(db.getRendered());
         Assert.assertTrue(db.getHidden());
     }
+
+    @Test
+    @Order(order=4)
+    public void pyramidUpdateTest() throws Exception {
+        List<Integer> dataIds = new ArrayList<>();
+        dataIds.addAll(providerBusiness.getDataIdsFromProviderId(coverage2PID));
+
+        TilingResult result = pyramidBusiness.pyramidDatas(1, "my_pyramid_update", dataIds, "CRS:84", TilingMode.RENDERED, 4);
+        waitForTask(result.getTaskId());
+
+        org.constellation.dto.Data d = dataBusiness.getData(result.getPyramidDataId());
+        DataProvider dp = DataProviders.getProvider(d.getProviderId());
+        TiledResource mr = (TiledResource) dp.get(d.getNamespace(), d.getName()).getOrigin();
+        TileMatrixSet tms = mr.getTileMatrixSets().iterator().next();
+        final int nbLevel = tms.getTileMatrices().size();
+
+        final Path pyramidDir = configBusiness.getDataIntegratedDirectory(dp.getId(), false);
+        final Map<Path, FileTime> before = listTiles(pyramidDir);
+        Assert.assertTrue("the pyramid should contain more than one tile by level", before.size() > nbLevel);
+
+        // a tiny area, not on a tile border, intersects a single tile on each level
+        final Envelope env = tms.getEnvelope().get();
+        final double x = env.getMinimum(0) + env.getSpan(0) * 0.3;
+        final double y = env.getMinimum(1) + env.getSpan(1) * 0.3;
+        final GeneralEnvelope area = new GeneralEnvelope(env.getCoordinateReferenceSystem());
+        area.setRange(0, x, x + env.getSpan(0) * 1e-6);
+        area.setRange(1, y, y + env.getSpan(1) * 1e-6);
+
+        // ensure a different modification time for the rewritten tiles
+        Thread.sleep(1500);
+
+        TilingResult update = pyramidBusiness.updatePyramid(1, result.getPyramidDataId(), area);
+        Assert.assertEquals(result.getPyramidDataId(), update.getPyramidDataId());
+        waitForTask(update.getTaskId());
+
+        final Map<Path, FileTime> after = listTiles(pyramidDir);
+        Assert.assertEquals(before.keySet(), after.keySet());
+        int rewritten = 0;
+        for (Map.Entry<Path, FileTime> tile : after.entrySet()) {
+            if (!tile.getValue().equals(before.get(tile.getKey()))) {
+                rewritten++;
+            }
+        }
+        Assert.assertEquals(nbLevel, rewritten);
+    }
+
+    private static Map<Path, FileTime> listTiles(final Path directory) throws Exception {
+        final Map<Path, FileTime> tiles = new HashMap<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && file.getFileName().toString().endsWith(".png")) {
+                    tiles.put(file, Files.getLastModifiedTime(file));
+                }
+            }
+        }
+        return tiles;
+    }
+
+    private void waitForTask(final Integer taskId) throws Exception {
+        int cpt = 0;
+        while (true) {
+            List<Task> tasks = processBusiness.listTaskHistory(taskId, 0, 1);
+            if (!tasks.isEmpty()) {
+                Assert.assertEquals(TaskState.SUCCEED.name(), tasks.get(0).getState());
+                return;
+            }
+            if (cpt > 50) {
+                throw new Exception("Tiling take too much time to finish");
+            }
+            Thread.sleep(1000);
+            cpt++;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.admin;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.constellation.business.ClusterMessage;
+import static org.constellation.business.ClusterMessageConstant.*;
+import org.constellation.business.IClusterBusiness;
+import org.constellation.business.IUserBusiness;
+import org.constellation.business.MessageListener;
+import org.constellation.dto.UserWithRole;
+import org.constellation.services.component.TokenService;
+import org.constellation.services.security.CstlAuthenticationProxy;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Check that the cached users and tokens are evicted once the user modifications are committed.
+ */
+public class UserBusinessTest extends AbstractBusinessTest {
+
+    private static final String LOGIN = "cached-user";
+
+    @Autowired
+    private IUserBusiness userBusiness;
+
+    @Autowired
+    private IClusterBusiness clusterBusiness;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void evictionAfterCommitTest() throws Exception {
+        final TokenService tokenService = new TokenService();
+        tokenService.init();
+        final CstlAuthenticationProxy authProxy = new CstlAuthenticationProxy();
+        authProxy.setTokenService(tokenService);
+        authProxy.setUserBusiness(userBusiness);
+        authProxy.setClusterBusiness(clusterBusiness);
+        authProxy.init();
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final String listenerUid = clusterBusiness.addMessageListener(new MessageListener() {
+            @Override
+            protected boolean filter(ClusterMessage message) {
+                return USR_MESSAGE_TYPE_ID.equals(message.getTypeId());
+            }
+
+            @Override
+            protected ClusterMessage process(ClusterMessage message) throws Exception {
+                events.add(message.getString(USR_KEY_LOGIN, true));
+                return null;
+            }
+
+            @Override
+            protected IClusterBusiness getClusterBusiness() {
+                return clusterBusiness;
+            }
+        });
+
+        final TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Integer userId = null;
+        try {
+            userId = tx.execute(status -> {
+                final Integer id = userBusiness.create(newUser());
+                Assert.assertTrue("published before the commit", events.isEmpty());
+                return id;
+            });
+            Assert.assertEquals(Arrays.asList(LOGIN), events);
+
+            final HttpServletRequest request = createRequest(LOGIN);
+            final String token = tokenService.createToken(LOGIN);
+            Assert.assertTrue(tokenService.validate(token));
+            Assert.assertTrue(tokenService.isValidated(token));
+            Assert.assertTrue(authProxy.getUserInfo(request).get().getActive());
+
+            // disabled user
+            final int id = userId;
+            tx.executeWithoutResult(status -> {
+                userBusiness.desactivate(id);
+                Assert.assertTrue(tokenService.isValidated(token));
+                Assert.assertTrue(authProxy.getUserInfo(request).get().getActive());
+            });
+            Assert.assertFalse(tokenService.isValidated(token));
+            Assert.assertFalse(authProxy.getUserInfo(request).get().getActive());
+
+            // a rolled back modification is not published
+            events.clear();
+            tx.executeWithoutResult(status -> {
+                userBusiness.activate(id);
+                status.setRollbackOnly();
+            });
+            Assert.assertTrue(events.isEmpty());
+            Assert.assertFalse(authProxy.getUserInfo(request).get().getActive());
+
+            // updated user
+            Assert.assertTrue(tokenService.validate(token));
+            final UserWithRole user = userBusiness.findOneWithRole(id).get();
+            user.setFirstname("updated");
+            userBusiness.update(user);
+            Assert.assertEquals(Arrays.asList(LOGIN), events);
+            Assert.assertFalse(tokenService.isValidated(token));
+            Assert.assertEquals("updated", authProxy.getUserInfo(request).get().getFirstname());
+
+            // deleted user
+            userBusiness.delete(id);
+            userId = null;
+            Assert.assertFalse(authProxy.getUserInfo(request).isPresent());
+        } finally {
+            clusterBusiness.removeMessageListener(listenerUid);
+            authProxy.destroy();
+            if (userId != null) {
+                userBusiness.delete(userId);
+            }
+        }
+    }
+
+    private static UserWithRole newUser() {
+        final UserWithRole user = new UserWithRole();
+        user.setFirstname("cached");
+        user.setLastname("user");
+        user.setLogin(LOGIN);
+        user.setEmail("cached.user@examind.com");
+        user.setPassword("password");
+        user.setActive(Boolean.TRUE);
+        user.setLocale("fr");
+        user.setRoles(Arrays.asList("data"));
+        return user;
+    }
+
+    private static HttpServletRequest createRequest(final String login) {
+        final Principal principal = () -> login;
+        return (HttpServletRequest) Proxy.newProxyInstance(UserBusinessTest.class.getClassLoader(), new Class[] {HttpServletRequest.class},
+                (proxy, method, args) -> "getUserPrincipal".equals(method.getName()) ? principal : null);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.scheduler;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.sis.util.SimpleInternationalString;
+import org.constellation.admin.LocalClusterBusiness;
+import org.constellation.api.TaskState;
+import org.constellation.business.IProcessBusiness;
+import org.constellation.dto.process.Task;
+import org.geotoolkit.process.Process;
+import org.geotoolkit.process.ProcessEvent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opengis.parameter.ParameterValueGroup;
+
+/**
+ * Check that the progress events of a task are coalesced before being persisted.
+ */
+public class QuartzJobListenerTest {
+
+    private static final int NB_EVENTS = 1000;
+
+    @Test
+    public void coalescedProgressTest() throws Exception {
+        final List<Task> updates = new ArrayList<>();
+        final QuartzJobListener.StateListener listener = new QuartzJobListener.StateListener("task-1", "test task",
+                createProcessBusiness(updates), new LocalClusterBusiness(), 60_000);
+
+        fireEvents(listener);
+
+        // the start and the completion are always persisted, the progress events are coalesced
+        Assert.assertTrue("Too many task updates: " + updates.size(), updates.size() <= 3);
+        final Task last = updates.get(updates.size() - 1);
+        Assert.assertEquals(TaskState.SUCCEED.name(), last.getState());
+        Assert.assertEquals(100.0, last.getProgress(), 0.0);
+        Assert.assertNotNull(last.getDateEnd());
+    }
+
+    @Test
+    public void noCoalescingTest() throws Exception {
+        final List<Task> updates = new ArrayList<>();
+        final QuartzJobListener.StateListener listener = new QuartzJobListener.StateListener("task-1", "test task",
+                createProcessBusiness(updates), new LocalClusterBusiness(), 0);
+
+        fireEvents(listener);
+
+        // without minimal interval, each event is persisted
+        Assert.assertEquals(NB_EVENTS + 2, updates.size());
+        Assert.assertEquals(TaskState.SUCCEED.name(), updates.get(updates.size() - 1).getState());
+    }
+
+    private static void fireEvents(final QuartzJobListener.StateListener listener) {
+        final Process process = (Process) Proxy.newProxyInstance(Process.class.getClassLoader(), new Class<?>[]{Process.class},
+                (proxy, method, args) -> method.getName().equals("toString") ? "test process" : null);
+
+        listener.started(new ProcessEvent(process, new SimpleInternationalString("start"), 0f, (ParameterValueGroup) null));
+        for (int i = 1; i <= NB_EVENTS; i++) {
+            listener.progressing(new ProcessEvent(process, new SimpleInternationalString("step " + i), i * 100f / NB_EVENTS, (ParameterValueGroup) null));
+        }
+        listener.completed(new ProcessEvent(process, new SimpleInternationalString("end"), 100f, (ParameterValueGroup) null));
+    }
+
+    /**
+     * Build a process business holding a single pending task, and recording a copy of the task at each update.
+     */
+    private static IProcessBusiness createProcessBusiness(final List<Task> updates) {
+        final Task task = new Task();
+        task.setIdentifier("task-1");
+        task.setState(TaskState.PENDING.name());
+        return (IProcessBusiness) Proxy.newProxyInstance(IProcessBusiness.class.getClassLoader(), new Class<?>[]{IProcessBusiness.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTask" -> {
+                            return task;
+                        }
+                        case "updateTask" -> {
+                            final Task t = (Task) args[0];
+                            final Task copy = new Task();
+                            copy.setIdentifier(t.getIdentifier());
+                            copy.setState(t.getState());
+                            copy.setProgress(t.getProgress());
+                            copy.setDateEnd(t.getDateEnd());
+                            updates.add(copy);
+                            return null;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -42,6 +42,7 @@ import org.geotoolkit.processing.ForwardProcessListener;
 import org.geotoolkit.storage.coverage.CoverageTileGenerator;
 import org.geotoolkit.storage.coverage.mosaic.AggregatedCoverageResource;
 import org.apache.sis.storage.tiling.WritableTiledResource;
+import org.opengis.geometry.Envelope;
 import org.opengis.parameter.ParameterDescriptor;
 import org.opengis.parameter.ParameterDescriptorGroup;
 import org.opengis.parameter.ParameterValueGroup;
@@ -61,6 +62,11 @@ public class PyramidProcess extends AbstractProcessDescriptor implements AdminPr
     protected static final ParameterDescriptor<WritableTiledResource> RESOURCE;
     protected static final ParameterDescriptor<InterpolationCase> INTERPOLATION;
     protected static final ParameterDescriptor<String> MODE;
+    /**
+     * Optional area to (re)generate. Only the tiles intersecting it are painted, which allows to update
+     * an existing pyramid after a local change of the source instead of rebuilding it entirely.
+     */
+    protected static final ParameterDescriptor<Envelope> ENVELOPE;
 
 
     private static final ParameterDescriptorGroup INPUT;
@@ -87,8 +93,11 @@ public class PyramidProcess extends AbstractProcessDescriptor implements AdminPr
                 .setRequired(true)
                 .createEnumerated(String.class, new String[]{"CONFORM","RENDERED"},"CONFORM");
 
+        ENVELOPE = builder.addName("envelope")
+                .setRequired(false)
+                .create(Envelope.class, null);
 
-        INPUT = builder.addName("input").createGroup(MAPCONTEXT, RESOURCE, INTERPOLATION, MODE);
+        INPUT = builder.addName("input").createGroup(MAPCONTEXT, RESOURCE, INTERPOLATION, MODE, ENVELOPE);
         OUTPUT = builder.addName("output").createGroup();
     }
 
@@ -116,6 +125,7 @@ public class PyramidProcess extends AbstractProcessDescriptor implements AdminPr
             final WritableTiledResource resource = inputParameters.getMandatoryValue(RESOURCE);
             final InterpolationCase interpolation = inputParameters.getMandatoryValue(INTERPOLATION);
             final String mode = inputParameters.getMandatoryValue(MODE);
+            final Envelope envelope = inputParameters.getValue(ENVELOPE);
 
             final TileGenerator generator;
             switch (mode) {
@@ -162,7 +172,7 @@ public class PyramidProcess extends AbstractProcessDescriptor implements AdminPr
             try {
                 for (WritableTileMatrixSet pyramid : resource.getTileMatrixSets()) {
                     final ForwardProcessListener fp = new ForwardProcessListener(this, 1, 99);
-                    generator.generate(pyramid, null, null, fp);
+                    generator.generate(pyramid, envelope, null, fp);
                 }
             } catch (DataStoreException | InterruptedException ex) {
                 throw new ProcessException(ex.getMessage(), this, ex);
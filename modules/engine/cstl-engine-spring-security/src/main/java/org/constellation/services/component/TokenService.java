@@ -26,7 +26,9 @@ import org.constellation.token.TokenUtils;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import static org.constellation.token.TokenUtils.ACCESS_TOKEN;
 
 /**
@@ -35,11 +37,20 @@ import static org.constellation.token.TokenUtils.ACCESS_TOKEN;
  */
 public class TokenService implements TokenExtender {
 
+    private static final int MAX_CACHED_TOKENS = 1000;
+
     private String secret = "TokenSecret";
 
+    /**
+     * Tokens already validated, with their expiration time.
+     * A token is stateless, so once its signature is verified it stays valid until it expires.
+     */
+    private final Map<String, Long> validatedTokens = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
         secret = Application.getProperty(AppProperty.CSTL_TOKEN_SECRET, UUID.randomUUID().toString());
+        validatedTokens.clear();
     }
 
     public String createToken(String username) {
@@ -47,12 +58,51 @@ public class TokenService implements TokenExtender {
     }
 
     public boolean validate(String access_token) {
-        return TokenUtils.validateToken(access_token, secret);
+        final long now = System.currentTimeMillis();
+        final Long expires = validatedTokens.get(access_token);
+        if (expires != null) {
+            if (expires >= now) {
+                return true;
+            }
+            validatedTokens.remove(access_token);
+            return false;
+        }
+        if (TokenUtils.validateToken(access_token, secret)) {
+            if (validatedTokens.size() >= MAX_CACHED_TOKENS) {
+                validatedTokens.values().removeIf(e -> e < now);
+                if (validatedTokens.size() >= MAX_CACHED_TOKENS) {
+                    validatedTokens.clear();
+                }
+            }
+            validatedTokens.put(access_token, TokenUtils.getExpiration(access_token));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param access_token A token.
+     * @return {@code true} if the token signature has already been verified and is kept in cache.
+     */
+    public boolean isValidated(String access_token) {
+        return validatedTokens.containsKey(access_token);
+    }
+
+    /**
+     * Forget the validated tokens of a user, their signature will be verified again on their next use.
+     *
+     * @param login Login of the user, or {@code null} to forget all the tokens.
+     */
+    public void evictUser(String login) {
+        if (login == null) {
+            validatedTokens.clear();
+        } else {
+            validatedTokens.keySet().removeIf(token -> login.equals(TokenUtils.getUserNameFromToken(token)));
+        }
     }
 
     public String getUserName(HttpServletRequest request) {
         String token = TokenUtils.extract(request, ACCESS_TOKEN);
-        //FIXME We should use cache here.
         if (token != null && validate(token)) {
             return TokenUtils.getUserNameFromToken(token);
         }
@@ -20,13 +20,23 @@ package org.constellation.services.security;
 
 import java.security.Principal;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.constellation.business.ClusterMessage;
+import static org.constellation.business.ClusterMessageConstant.*;
+import org.constellation.business.IClusterBusiness;
 import org.constellation.business.IUserBusiness;
+import org.constellation.business.MessageException;
+import org.constellation.business.MessageListener;
 import org.constellation.dto.UserWithRole;
 import org.constellation.engine.security.AuthenticationProxy;
 import org.constellation.engine.security.Utils;
@@ -49,6 +59,13 @@ public class CstlAuthenticationProxy implements AuthenticationProxy {
 
     private static final Logger LOGGER = Logger.getLogger("org.constellation.services.security");
 
+    /**
+     * Time (in milliseconds) during which a user and its roles are kept in cache.
+     */
+    private static final long USER_CACHE_DURATION = 30_000;
+
+    private static final int MAX_CACHED_USERS = 1000;
+
     @Autowired
     private TokenService tokenService;
 
@@ -62,6 +79,73 @@ public class CstlAuthenticationProxy implements AuthenticationProxy {
     @Autowired
     private IUserBusiness userBusiness;
 
+    @Autowired
+    private IClusterBusiness clusterBusiness;
+
+    /**
+     * Users (with their roles) recently looked up, to avoid a database query on each authenticated request.
+     * A user is evicted when it is modified.
+     */
+    private final Map<String, CachedUser> users = new ConcurrentHashMap<>();
+
+    private String listenerUid;
+
+    @PostConstruct
+    public void init() {
+        // evict the cached user and its tokens when a user is modified
+        listenerUid = clusterBusiness.addMessageListener(new MessageListener() {
+            @Override
+            protected boolean filter(ClusterMessage message) {
+                return USR_MESSAGE_TYPE_ID.equals(message.getTypeId());
+            }
+
+            @Override
+            protected ClusterMessage process(ClusterMessage event) throws MessageException {
+                evictUser(event.getString(USR_KEY_LOGIN, true));
+                return null;
+            }
+
+            @Override
+            protected IClusterBusiness getClusterBusiness() {
+                return clusterBusiness;
+            }
+        });
+    }
+
+    public void setTokenService(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    public void setUserBusiness(IUserBusiness userBusiness) {
+        this.userBusiness = userBusiness;
+    }
+
+    public void setClusterBusiness(IClusterBusiness clusterBusiness) {
+        this.clusterBusiness = clusterBusiness;
+    }
+
+    /**
+     * Remove a user and its validated tokens from the caches.
+     *
+     * @param login Login of the user, or {@code null} to clear the caches.
+     */
+    private void evictUser(String login) {
+        if (login == null) {
+            users.clear();
+        } else {
+            users.remove(login);
+        }
+        tokenService.evictUser(login);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (listenerUid != null) {
+            clusterBusiness.removeMessageListener(listenerUid);
+        }
+        users.clear();
+    }
+
     @Override
     public void performLogin(String userName, String password, HttpServletResponse response) throws Exception {
         if (authManager == null) {
@@ -75,6 +159,7 @@ public class CstlAuthenticationProxy implements AuthenticationProxy {
         final Authentication authentication = this.authManager.authenticate(authenticationToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
+        users.remove(userName);
         final String createToken = tokenService.createToken(userName);
         CookieUtils.addCookie(response, new AbstractMap.SimpleEntry<>(ACCESS_TOKEN, new String[] {createToken, "HttpOnly"}));
     }
@@ -88,6 +173,10 @@ public class CstlAuthenticationProxy implements AuthenticationProxy {
 
     @Override
     public void performLogout(HttpServletRequest request, HttpServletResponse response) {
+       final Principal userPrincipal = request.getUserPrincipal();
+       if (userPrincipal != null && userPrincipal.getName() != null) {
+           users.remove(userPrincipal.getName());
+       }
        CookieUtils.clearAuthCookies(response, Arrays.asList(ACCESS_TOKEN));
     }
 
@@ -101,7 +190,31 @@ public class CstlAuthenticationProxy implements AuthenticationProxy {
         if (username == null || username.isEmpty()) {
             return Optional.empty();
         }
-        return userBusiness.findOneWithRole(username);
+        final long now = System.currentTimeMillis();
+        final CachedUser cached = users.get(username);
+        if (cached != null && now - cached.time < USER_CACHE_DURATION) {
+            // return a copy, the callers may modify the user (for example to hide the password)
+            return Optional.of(copy(cached.user));
+        }
+        final Optional<UserWithRole> user = userBusiness.findOneWithRole(username);
+        if (user.isPresent()) {
+            if (users.size() >= MAX_CACHED_USERS) {
+                users.values().removeIf(c -> now - c.time >= USER_CACHE_DURATION);
+                if (users.size() >= MAX_CACHED_USERS) {
+                    users.clear();
+                }
+            }
+            users.put(username, new CachedUser(copy(user.get()), now));
+        } else {
+            users.remove(username);
+        }
+        return user;
     }
 
+    private static UserWithRole copy(UserWithRole user) {
+        return new UserWithRole(user, user.getRoles() != null ? new ArrayList<>(user.getRoles()) : null);
+    }
+
+    private record CachedUser(UserWithRole user, long time) {}
+
 }
@@ -57,6 +57,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import static org.constellation.api.CommonConstants.DATA_ARRAY;
 import org.constellation.business.IDatasourceBusiness.AnalysisState;
@@ -134,6 +135,8 @@ public class SosHarvesterProcess extends AbstractCstlProcess {
         final boolean generateFoi = inputParameters.getValue(GENERATE_FOI);
 
         final boolean checkFiles = inputParameters.getValue(CHECK_FILE);
+        final Integer batchParam = inputParameters.getValue(BATCH_SIZE);
+        final int batchSize = batchParam != null ? batchParam : 0;
 
         final List<ServiceProcessReference> serviceRefs = getMultipleValues(inputParameters, SERVICE_ID);
 
@@ -498,7 +501,7 @@ public class SosHarvesterProcess extends AbstractCstlProcess {
             }
             if (accept) {
                 try {
-                    int currentNbObs = importSensor(services, dataId, byData, generateFoi);
+                    int currentNbObs = importSensor(services, dataId, byData, generateFoi, batchSize);
                     nbObsInserted = nbObsInserted + currentNbObs;
 
                     // add the integrated data id and file to results
@@ -599,7 +602,7 @@ public class SosHarvesterProcess extends AbstractCstlProcess {
         return result;
     }
 
-    private int importSensor(final Collection<SensorService> services, final int dataId, final double byData, boolean generateFoi) throws ConstellationException {
+    private int importSensor(final Collection<SensorService> services, final int dataId, final double byData, boolean generateFoi, int batchSize) throws ConstellationException {
         Integer providerId = dataBusiness.getDataProvider(dataId);
         final DataProvider provider = DataProviders.getProvider(providerId);
         ObservationProvider csvOmProvider;
@@ -612,7 +615,7 @@ public class SosHarvesterProcess extends AbstractCstlProcess {
         final double byInsert                       = byData / services.size();
 
         for (SensorService sosRef : services) {
-            fireAndLog("inserting data " + dataId + " into the service sensor provider " + sosRef.provider.getId(), byInsert);
+            fireAndLog("inserting data " + dataId + " into the service sensor provider " + sosRef.provider.getId(), 0);
             
             final ObservationProvider omServiceProvider = sosRef.provider;
 
@@ -620,31 +623,63 @@ public class SosHarvesterProcess extends AbstractCstlProcess {
             final Set<Phenomenon> existingPhenomenons   = new HashSet<>(omServiceProvider.getPhenomenon(new ObservedPropertyQuery()));
             final Set<SamplingFeature> existingFois     = generateFoi ? new HashSet<>(omServiceProvider.getFeatureOfInterest(new SamplingFeatureQuery())) : new HashSet<>();
 
+            final long start = System.currentTimeMillis();
+            final Map<String, ProcedureDataset> procedures = new LinkedHashMap<>();
+            final AtomicInteger nbObsService = new AtomicInteger();
+            final AtomicInteger batchNumber = new AtomicInteger();
+
+            /*
+             * the file is read only once, and its observations are handed over by batches of at most batchSize lines,
+             * in order to only keep a bounded number of them in memory (0 means that all the file is extracted in one time).
+             */
             DatasetQuery dsQuery = new DatasetQuery();
             dsQuery.setResponseFormat(DATA_ARRAY);
-            final ObservationDataset result = csvOmProvider.extractResults(dsQuery);
-            if (result.observations.isEmpty()) {
+            csvOmProvider.extractResults(dsQuery, batchSize, result -> {
+                final int batch = batchNumber.incrementAndGet();
+                if (result.observations.isEmpty()) {
+                    return;
+                }
+                reuseExistingPhenomenonAndFOI(result, existingPhenomenons, existingFois);
+
+                // write the procedures, the locations of a batch are added to the ones of the previous batches
+                for (ProcedureDataset process : result.procedures) {
+                    omServiceProvider.writeProcedure(process);
+                    final ProcedureDataset previous = procedures.putIfAbsent(process.getId(), process);
+                    if (previous != null) {
+                        previous.spatialBound.merge(process.spatialBound);
+                    }
+                }
+                result.observations.stream().forEach(obs -> ((org.geotoolkit.observation.model.Observation)obs).setName(null));
+
+                // import observation in the service provider
+                for (Observation obs : result.observations) {
+                    omServiceProvider.writeObservation(obs);
+                }
+                nbObsService.addAndGet(result.observations.size());
+
+                // the next batches must reuse the phenomenons and features of interest written by this one
+                existingPhenomenons.addAll(result.phenomenons);
+                if (generateFoi) {
+                    existingFois.addAll(result.featureOfInterest);
+                }
+                if (batchSize > 0) {
+                    fireAndLog("batch " + batch + " of data " + dataId + " inserted (" + result.observations.size() + " observations)", 0);
+                }
+            });
+            if (nbObsService.get() == 0) {
                 throw new ConstellationException("The data provider did not produce any observations.");
             }
-            reuseExistingPhenomenonAndFOI(result, existingPhenomenons, existingFois);
 
-            // generate sensor
-            final long start = System.currentTimeMillis();
+            // generate the sensors once all the batches are written, with their complete bounds
             final List<Integer> sensorIds = new ArrayList<>();
-            for (ProcedureDataset process : result.procedures) {
-                omServiceProvider.writeProcedure(process);
+            for (ProcedureDataset process : procedures.values()) {
                 Integer sid =  sensorBusiness.generateSensor(process, null, null, dataId);
                 sensorIds.add(sid);
             }
-            result.observations.stream().forEach(obs -> ((org.geotoolkit.observation.model.Observation)obs).setName(null));
-
-            // import observation in the service provider
-            for (Observation obs : result.observations) {
-                omServiceProvider.writeObservation(obs);
-            }
             LOGGER.log(Level.INFO, "observations imported in :{0} ms", (System.currentTimeMillis() - start));
+            fireAndLog("data " + dataId + " inserted (" + nbObsService.get() + " observations)", byInsert);
 
-            nbObsTotal = nbObsTotal + result.observations.size();
+            nbObsTotal = nbObsTotal + nbObsService.get();
 
             for (ServiceProcessReference servRef : sosRef.services) {
                 // link sensors to the service
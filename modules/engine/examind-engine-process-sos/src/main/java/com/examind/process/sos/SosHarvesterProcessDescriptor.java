@@ -564,6 +564,14 @@ public class SosHarvesterProcessDescriptor extends AbstractProcessDescriptor{
             .setRequired(false)
             .create(Boolean.class, true);
 
+    public static final String BATCH_SIZE_NAME = "batch_size";
+    public static final String BATCH_SIZE_DESC = "Maximum number of file lines extracted and inserted at once, the file being read only once. If set to 0, each file is extracted in one time.";
+    public static final ParameterDescriptor<Integer> BATCH_SIZE = PARAM_BUILDER
+            .addName(BATCH_SIZE_NAME)
+            .setRemarks(BATCH_SIZE_DESC)
+            .setRequired(false)
+            .create(Integer.class, 0);
+
     public static final ParameterDescriptorGroup INPUT_DESC =
             PARAM_BUILDER.addName("InputParameters").createGroup(DATA_FOLDER, USER, PWD, REMOTE_READ, SERVICE_ID, DATASET_IDENTIFIER, OBS_TYPE, SEPARATOR, CHARQUOTE, REMOVE_PREVIOUS, 
                     THING_ID, THING_NAME, THING_DESC, THING_COLUMN, THING_NAME_COLUMN, THING_DESC_COLUMN, THING_REGEX, THING_PROPERTIES_MAP_COLUMN, THING_PROPERTIE_COLUMN,
@@ -573,7 +581,7 @@ public class SosHarvesterProcessDescriptor extends AbstractProcessDescriptor{
                     QUALITY_COLUMN, QUALITY_COLUMN_ID, QUALITY_COLUMN_TYPE,
                     PARAMETER_COLUMN, PARAMETER_COLUMN_ID, PARAMETER_COLUMN_TYPE,
                     TYPE_COLUMN, EXTRA_STORE_PARAMETERS, DIRECT_COLUMN_INDEX,
-                    NO_HEADER, LAX_HEADER, GENERATE_METADATA, CHECK_FILE, FILE_CHECKER, GENERATE_FOI);
+                    NO_HEADER, LAX_HEADER, GENERATE_METADATA, CHECK_FILE, FILE_CHECKER, GENERATE_FOI, BATCH_SIZE);
 
     public static final String FILE_ALREADY_INSERTED_COUNT_NAME = "files_already_inserted_count";
     public static final String FILE_ALREADY_INSERTED_COUNT_DESC = "Number of files already inserted";
@@ -32,7 +32,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -46,11 +48,14 @@ import java.util.logging.Level;
 import org.apache.sis.parameter.Parameters;
 import org.apache.sis.referencing.CommonCRS;
 import org.apache.sis.storage.DataStoreException;
+import org.apache.sis.storage.Query;
 import org.apache.sis.storage.Resource;
 import static org.constellation.api.CommonConstants.DATA_ARRAY;
 import static org.constellation.api.CommonConstants.COMPLEX_OBSERVATION;
 import static org.constellation.api.CommonConstants.RESPONSE_FORMAT_V100_XML;
 import static org.constellation.api.CommonConstants.RESPONSE_FORMAT_V200_XML;
+import org.constellation.exception.ConstellationException;
+import org.constellation.provider.BatchedObservationStore;
 import org.geotoolkit.nio.IOUtilities;
 import org.geotoolkit.observation.AbstractObservationStore;
 import org.geotoolkit.observation.ObservationStore;
@@ -73,6 +78,7 @@ import org.geotoolkit.observation.model.ResponseMode;
 import org.geotoolkit.observation.model.ResultMode;
 import org.geotoolkit.observation.model.SamplingFeature;
 import org.geotoolkit.observation.query.AbstractObservationQuery;
+import org.geotoolkit.observation.query.DatasetQuery;
 import org.geotoolkit.observation.result.ResultBuilder;
 import org.geotoolkit.util.NamesExt;
 import org.locationtech.jts.geom.Coordinate;
@@ -86,7 +92,7 @@ import org.opengis.util.GenericName;
  *
  * @author Guilhem Legal (Geomatys)
  */
-public abstract class FileParsingObservationStore extends AbstractObservationStore implements ObservationStore {
+public abstract class FileParsingObservationStore extends AbstractObservationStore implements ObservationStore, BatchedObservationStore {
 
     protected static final String PROCEDURE_TREE_TYPE = "Component";
     
@@ -258,6 +264,39 @@ public abstract class FileParsingObservationStore extends AbstractObservationSto
         return featureSets;
     }
 
+    @Override
+    public ObservationDataset getDataset(final DatasetQuery query) throws DataStoreException {
+        final List<ObservationDataset> results = new ArrayList<>();
+        try {
+            readDataset(query, new ObservationBatcher(query.getResponseFormat(), 0, results::add));
+        } catch (ConstellationException ex) {
+            throw new DataStoreException(ex);
+        }
+        return results.get(0);
+    }
+
+    @Override
+    public void getDatasets(final Query query, final int batchSize, final ObservationDatasetConsumer consumer) throws DataStoreException, ConstellationException {
+        final DatasetQuery dq;
+        if (query == null) {
+            dq = new DatasetQuery();
+        } else if (query instanceof DatasetQuery dqq) {
+            dq = dqq;
+        } else {
+            throw new DataStoreException("Only DatasetQuery are supported");
+        }
+        readDataset(dq, new ObservationBatcher(dq.getResponseFormat(), batchSize, consumer));
+    }
+
+    /**
+     * Read the file in a single pass, filling the observation blocks given by the batcher.
+     * The implementation must call {@link ObservationBatcher#finish()} once the whole file has been read.
+     *
+     * @param query The dataset query.
+     * @param batcher Provide the observation blocks and the dataset to fill.
+     */
+    protected abstract void readDataset(DatasetQuery query, ObservationBatcher batcher) throws DataStoreException, ConstellationException;
+
     protected abstract Set<String> extractProcedureIds() throws DataStoreException;
 
     protected abstract Set<String> extractPhenomenonIds() throws DataStoreException;
@@ -341,6 +380,77 @@ public abstract class FileParsingObservationStore extends AbstractObservationSto
         }
     }
 
+    /**
+     * Collect the observation blocks read from the file, and hand them over to a consumer as a dataset
+     * each time the number of read lines reaches the batch size. With a batch size of 0,
+     * a single dataset is produced when the file has been entirely read.
+     */
+    protected class ObservationBatcher {
+
+        private final String responseFormat;
+        private final int batchSize;
+        private final ObservationDatasetConsumer consumer;
+
+        private final Map<String, ObservationBlock> observationBlock = new LinkedHashMap<>();
+
+        // kept between the batches, in order to reuse the same composite phenomenons and unnamed features of interest.
+        private final Set<Phenomenon> phenomenons = new HashSet<>();
+        private final Set<SamplingFeature> samplingFeatures = new HashSet<>();
+
+        private ObservationDataset dataset = new ObservationDataset();
+        private int nbLine = 0;
+        private int obsCpt = 0;
+        private boolean produced = false;
+
+        public ObservationBatcher(String responseFormat, int batchSize, ObservationDatasetConsumer consumer) {
+            this.responseFormat = responseFormat;
+            this.batchSize = batchSize;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Return the observation block for the current line,
+         * after handing over the current dataset if it already holds a full batch of lines.
+         */
+        public ObservationBlock getOrCreateBlock(Procedure procedure, String foiID, Long time, MeasureColumns measColumns) throws ConstellationException {
+            if (batchSize > 0 && nbLine >= batchSize) {
+                flush();
+            }
+            nbLine++;
+            return getOrCreateObservationBlock(observationBlock, procedure, foiID, time, measColumns);
+        }
+
+        /**
+         * @return The dataset of the current batch.
+         */
+        public ObservationDataset getDataset() {
+            return dataset;
+        }
+
+        /**
+         * Hand over the remaining observations. A dataset is always produced if none has been yet, even an empty one.
+         */
+        public void finish() throws ConstellationException {
+            if (!observationBlock.isEmpty() || !produced) {
+                flush();
+            }
+        }
+
+        private void flush() throws ConstellationException {
+            for (ObservationBlock ob : observationBlock.values()) {
+                final String oid = dataFileName + '-' + obsCpt;
+                obsCpt++;
+                buildObservation(dataset, oid, ob, phenomenons, samplingFeatures, responseFormat);
+            }
+            final ObservationDataset full = dataset;
+            observationBlock.clear();
+            dataset = new ObservationDataset();
+            nbLine = 0;
+            produced = true;
+            consumer.accept(full);
+        }
+    }
+
     protected Phenomenon buildPhenomenon(final Set<MeasureField> fields, final String phenomenonIdBase, final Set<Phenomenon> existingPhens) {
         final List<Phenomenon> components = new ArrayList<>();
         for (MeasureField field : fields) {
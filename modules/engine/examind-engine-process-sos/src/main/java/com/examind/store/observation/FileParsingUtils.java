@@ -27,8 +27,10 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -72,6 +74,22 @@ public class FileParsingUtils {
 
     private static final GeometryFactory GF = new GeometryFactory();
 
+    /**
+     * Maximum number of compiled regex kept in {@link #PATTERNS}.
+     */
+    private static final int PATTERNS_SIZE = 64;
+
+    /**
+     * Compiled regex cache, as the same few patterns are applied on each line of a file.
+     * The regex come from the store configurations, so the least recently used ones are evicted.
+     */
+    private static final Map<String, Pattern> PATTERNS = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > PATTERNS_SIZE;
+        }
+    });
+
     public static int getColumnIndex(String columnName, DataFileReader reader, boolean directColumnIndex, boolean ignoreCase) throws IOException {
         if (columnName == null) return -1;
         if (directColumnIndex) {
@@ -486,7 +504,7 @@ public class FileParsingUtils {
     public static String extractWithRegex(String regex, String value, String defaultValue) {
         String result = defaultValue;
          if (regex != null && value != null) {
-            final Pattern pa = Pattern.compile(regex);
+            final Pattern pa = PATTERNS.computeIfAbsent(regex, Pattern::compile);
             final Matcher m = pa.matcher(value);
             if (m.find() && m.groupCount() >= 1) {
                 result = m.group(1).trim();
@@ -778,10 +796,11 @@ public class FileParsingUtils {
 
         // composite dates are only supported for string column
         } else {
-            String value = "";
+            final StringBuilder sb = new StringBuilder();
             for (Integer dateIndex : dateIndexes) {
-                value += asString(line[dateIndex]);
+                sb.append(asString(line[dateIndex]));
             }
+            final String value = sb.toString();
             try {
                 return Optional.of(sdf.parse(value).getTime());
             } catch (ParseException ex) {
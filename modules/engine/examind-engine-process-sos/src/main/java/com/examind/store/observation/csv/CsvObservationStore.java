@@ -32,7 +32,7 @@ import java.util.Set;
 import java.util.logging.Level;
 import org.apache.sis.storage.DataStoreException;
 import org.apache.sis.storage.DataStoreProvider;
-import org.geotoolkit.observation.model.ObservationDataset;
+import org.constellation.exception.ConstellationException;
 import org.geotoolkit.observation.model.ProcedureDataset;
 import org.geotoolkit.storage.DataStores;
 
@@ -49,9 +49,7 @@ import java.util.stream.Collectors;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.geotoolkit.observation.model.Field;
-import org.geotoolkit.observation.model.Phenomenon;
 import org.geotoolkit.observation.model.Procedure;
-import org.geotoolkit.observation.model.SamplingFeature;
 import org.geotoolkit.observation.query.DatasetQuery;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -76,7 +74,7 @@ public class CsvObservationStore extends AbstractCsvStore {
     }
     
     @Override
-    public ObservationDataset getDataset(final DatasetQuery query) throws DataStoreException {
+    protected void readDataset(final DatasetQuery query, final ObservationBatcher batcher) throws DataStoreException, ConstellationException {
         
         if (mainColumns.isEmpty()) {
             throw new DataStoreException("No main column(s) defined.");
@@ -138,10 +136,6 @@ public class CsvObservationStore extends AbstractCsvStore {
             List<ObservedProperty> fixedObsProperties = getObservedProperties(measureFields);
 
             MeasureColumns measureColumns    = new MeasureColumns(obsPropFields, mainColumns, observationType);
-
-             // final result
-            final ObservationDataset result = new ObservationDataset();
-            final Map<String, ObservationBlock> observationBlock = new LinkedHashMap<>();
             
             /*
             2- compute measures
@@ -187,17 +181,19 @@ public class CsvObservationStore extends AbstractCsvStore {
                 // look for current foi (for observation separation)
                 currentFoi = asString(getColumnValue(foiIndex, line, currentFoi));
 
+                Long lineDate = null;
                 // look for current date (for non timeseries observation separation)
                 if (!dateIndexes.equals(mainIndexes)) {
                     Optional<Long> dateO = parseDate(line, null, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         currentTime = dateO.get();
+                        lineDate = currentTime;
                     } else {
                         continue;
                     }
                 }
 
-                ObservationBlock currentBlock = getOrCreateObservationBlock(observationBlock, currentProc, currentFoi, currentTime, measureColumns);
+                ObservationBlock currentBlock = batcher.getOrCreateBlock(currentProc, currentFoi, currentTime, measureColumns);
 
                 currentBlock.updateObservedProperties(fixedObsProperties);
                 
@@ -205,13 +201,13 @@ public class CsvObservationStore extends AbstractCsvStore {
                 a- build spatio-temporal information
                 ==================================*/
 
-                // update temporal interval
+                // update temporal interval (the date may already have been parsed for the observation separation)
                 Long millis = null;
                 if (!dateIndexes.isEmpty()) {
-                    Optional<Long> dateO = parseDate(line, millis, dateIndexes, sdf, lineNumber);
+                    Optional<Long> dateO = parseDate(line, lineDate, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         millis = dateO.get();
-                        result.spatialBound.addDate(millis);
+                        batcher.getDataset().spatialBound.addDate(millis);
                         currentBlock.addDate(millis);
                     } else {
                         continue;
@@ -224,7 +220,7 @@ public class CsvObservationStore extends AbstractCsvStore {
                     if (position.length == 2) {
                         final double latitude = position[0];
                         final double longitude = position[1];
-                        result.spatialBound.addXYCoordinate(longitude, latitude);
+                        batcher.getDataset().spatialBound.addXYCoordinate(longitude, latitude);
                         currentBlock.addPosition(millis, latitude, longitude);
                     }
                 } catch (ParseException | NumberFormatException ex) {
@@ -273,18 +269,7 @@ public class CsvObservationStore extends AbstractCsvStore {
             }
 
 
-            /*
-            3- build result
-            =============*/
-            final Set<Phenomenon> phenomenons = new HashSet<>();
-            final Set<SamplingFeature> samplingFeatures = new HashSet<>();
-            int obsCpt = 0;
-            for (ObservationBlock ob : observationBlock.values()) {
-                final String oid = dataFileName + '-' + obsCpt;
-                obsCpt++;
-                buildObservation(result, oid, ob, phenomenons, samplingFeatures, query.getResponseFormat());
-            }
-            return result;
+            batcher.finish();
         } catch (IOException | InterruptedException ex) {
             LOGGER.log(Level.WARNING, "problem reading csv file", ex);
             throw new DataStoreException(ex);
@@ -443,7 +428,7 @@ public class CsvObservationStore extends AbstractCsvStore {
 
                 // update temporal interval
                 if (!dateIndexes.isEmpty()) {
-                    Optional<Long> d = parseDate(line, null, dateIndexes, new SimpleDateFormat(this.dateFormat), lineNumber);
+                    Optional<Long> d = parseDate(line, null, dateIndexes, sdf, lineNumber);
                     if (d.isEmpty()) {
                         continue;
                     } else {
@@ -21,7 +21,6 @@ import com.examind.store.observation.DataFileReader;
 import com.examind.store.observation.ObservationBlock;
 import org.apache.sis.storage.DataStoreException;
 import org.apache.sis.storage.DataStoreProvider;
-import org.geotoolkit.observation.model.ObservationDataset;
 import org.geotoolkit.observation.model.ProcedureDataset;
 import org.geotoolkit.storage.DataStores;
 
@@ -50,13 +49,12 @@ import static com.examind.store.observation.FileParsingObservationStoreFactory.g
 import com.examind.store.observation.MeasureField;
 import com.examind.store.observation.ObservedProperty;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.constellation.exception.ConstellationException;
 import org.constellation.exception.ConstellationStoreException;
 import org.geotoolkit.observation.model.Field;
 import org.geotoolkit.observation.model.FieldDataType;
 import org.geotoolkit.observation.model.FieldType;
-import org.geotoolkit.observation.model.Phenomenon;
 import org.geotoolkit.observation.model.Procedure;
-import org.geotoolkit.observation.model.SamplingFeature;
 import org.geotoolkit.observation.query.DatasetQuery;
 import org.locationtech.jts.geom.Coordinate;
 import org.opengis.parameter.ParameterValueGroup;
@@ -138,11 +136,12 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
     }
 
     @Override
-    public ObservationDataset getDataset(final DatasetQuery query) throws DataStoreException {
+    protected void readDataset(final DatasetQuery query, final ObservationBatcher batcher) throws DataStoreException, ConstellationException {
 
         // pre-load the obsProp colmuns has we don't want to open twice the file
         // some DataFileReader are not concurrent (like xlsx) ans this will cause issue
         final List<String> sortedMeasureColumns = getObsPropColumns().stream().sorted().collect(Collectors.toList());
+        final Set<String> measureColumns        = new HashSet<>(sortedMeasureColumns);
 
         // open csv file with a delimiter set as process SosHarvester input.
         try (final DataFileReader reader = getDataFileReader()) {
@@ -195,10 +194,6 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
             if (mainIndexes.isEmpty() && observationType != null) {
                 throw new DataStoreException("Unexpected column main:" + mainColumns);
             }
-
-            // final result
-            final ObservationDataset result = new ObservationDataset();
-            final Map<String, ObservationBlock> observationBlock = new LinkedHashMap<>();
             final Map<String, ObservedProperty> observedProperties = new HashMap<>();
             
             /*
@@ -284,11 +279,13 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
                 // look for current foi (for observation separation)
                 currentFoi = asString(getColumnValue(foiIndex, line, currentFoi));
 
+                Long lineDate = null;
                 // look for current date (for profile observation separation)
                 if (!dateIndexes.equals(mainIndexes)) {
                     Optional<Long> dateO = parseDate(line, null, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         currentTime = dateO.get();
+                        lineDate = currentTime;
                     } else {
                         continue;
                     }
@@ -297,21 +294,21 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
                 ObservedProperty observedProperty = parseObservedProperty(line, obsPropColumnIndexes, obsPropNameColumnIndexes, obsPropDescColumnIndexes, uomColumnIndex, obsPropPropMapIndex, obsPropPropIndexes, observedProperties);
 
                 // checks if row matches the observed properties wanted
-                if (!sortedMeasureColumns.contains(observedProperty.id)) {
+                if (!measureColumns.contains(observedProperty.id)) {
                     continue;
                 }
 
-                ObservationBlock currentBlock = getOrCreateObservationBlock(observationBlock, currentProc, currentFoi, currentTime, measureColums);
+                ObservationBlock currentBlock = batcher.getOrCreateBlock(currentProc, currentFoi, currentTime, measureColums);
 
                 currentBlock.updateObservedProperty(observedProperty);
 
-                // update temporal interval
+                // update temporal interval (the date may already have been parsed for the observation separation)
                 Long millis = null;
                 if (!dateIndexes.isEmpty()) {
-                    Optional<Long> dateO = parseDate(line, millis, dateIndexes, sdf, lineNumber);
+                    Optional<Long> dateO = parseDate(line, lineDate, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         millis = dateO.get();
-                        result.spatialBound.addDate(millis);
+                        batcher.getDataset().spatialBound.addDate(millis);
                         currentBlock.addDate(millis);
                     } else {
                         continue;
@@ -324,7 +321,7 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
                     if (position.length == 2) {
                         final double latitude = position[0];
                         final double longitude = position[1];
-                        result.spatialBound.addXYCoordinate(longitude, latitude);
+                        batcher.getDataset().spatialBound.addXYCoordinate(longitude, latitude);
                         currentBlock.addPosition(millis, latitude, longitude);
                     }
                 } catch (NumberFormatException | ParseException ex) {
@@ -355,18 +352,7 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
             }
 
 
-            /*
-            3- build results
-            =============*/
-            final Set<Phenomenon> phenomenons = new HashSet<>();
-            final Set<SamplingFeature> samplingFeatures = new HashSet<>();
-            int obsCpt = 0;
-            for (ObservationBlock ob : observationBlock.values()) {
-                final String oid = dataFileName + '-' + obsCpt;
-                obsCpt++;
-                buildObservation(result, oid, ob, phenomenons, samplingFeatures, query.getResponseFormat());
-            }
-            return result;
+            batcher.finish();
         } catch (IOException | InterruptedException ex) {
             LOGGER.log(Level.WARNING, "problem reading csv file", ex);
             throw new DataStoreException(ex);
@@ -503,6 +489,7 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
         // pre-load the obsProp columns has we don't want to open twice the file
         // some DataFileReader are not concurrent (like xlsx) ans this will cause issue
         final List<String> sortedMeasureColumns = getObsPropColumns().stream().sorted().collect(Collectors.toList());
+        final Set<String> measureColumns        = new HashSet<>(sortedMeasureColumns);
 
         // open csv file
         try (final DataFileReader reader = getDataFileReader()) {
@@ -544,6 +531,7 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
             final Set<String> knownPositions     = new HashSet<>();
             Procedure previousProc               = null;
             ProcedureDataset currentPTree        = null;
+            final DateFormat sdf                 = new SimpleDateFormat(this.dateFormat);
             int lineNumber                       = 1;
             
             final Iterator<Object[]> it = reader.iterator(!noHeader);
@@ -607,7 +595,7 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
                 
                 
                 // checks if row matches the observed properties wanted
-                if (!sortedMeasureColumns.contains(observedProperty)) {
+                if (!measureColumns.contains(observedProperty)) {
                     continue;
                 }
 
@@ -632,7 +620,7 @@ public class CsvFlatObservationStore extends FileParsingObservationStore {
 
                 // update temporal interval
                 if (!dateIndexes.isEmpty()) {
-                    Optional<Long> d = parseDate(line, null, dateIndexes, new SimpleDateFormat(this.dateFormat), lineNumber);
+                    Optional<Long> d = parseDate(line, null, dateIndexes, sdf, lineNumber);
                     if (d.isEmpty()) {
                         continue;
                     } else {
@@ -23,7 +23,6 @@ import com.examind.store.observation.DataFileReader;
 import com.examind.store.observation.ObservationBlock;
 import org.apache.sis.storage.DataStoreException;
 import org.apache.sis.storage.DataStoreProvider;
-import org.geotoolkit.observation.model.ObservationDataset;
 import org.geotoolkit.observation.model.ProcedureDataset;
 import org.geotoolkit.storage.DataStores;
 
@@ -53,13 +52,12 @@ import com.examind.store.observation.MeasureField;
 import com.examind.store.observation.ObservedProperty;
 import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.constellation.exception.ConstellationException;
 import org.constellation.exception.ConstellationStoreException;
 import org.geotoolkit.observation.model.Field;
 import org.geotoolkit.observation.model.FieldDataType;
 import org.geotoolkit.observation.model.FieldType;
-import org.geotoolkit.observation.model.Phenomenon;
 import org.geotoolkit.observation.model.Procedure;
-import org.geotoolkit.observation.model.SamplingFeature;
 import org.geotoolkit.observation.query.DatasetQuery;
 import org.locationtech.jts.geom.Coordinate;
 import org.opengis.parameter.ParameterValueGroup;
@@ -174,11 +172,12 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
     }
 
     @Override
-    public ObservationDataset getDataset(final DatasetQuery query) throws DataStoreException {
+    protected void readDataset(final DatasetQuery query, final ObservationBatcher batcher) throws DataStoreException, ConstellationException {
 
         // pre-load the obsProp colmuns has we don't want to open twice the file
         // some DataFileReader are not concurrent (like xlsx) ans this will cause issue
         final List<String> sortedMeasureColumns = getObsPropColumns().stream().sorted().collect(Collectors.toList());
+        final Set<String> measureColumns        = new HashSet<>(sortedMeasureColumns);
 
        /* -------------------------------------------------------------------- 
         *
@@ -329,10 +328,6 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
             if (mainIndexes.isEmpty() && observationType != null) {
                 throw new DataStoreException("Unexpected column main:" + mainColumns);
             }
-
-            // final result
-            final ObservationDataset result = new ObservationDataset();
-            final Map<String, ObservationBlock> observationBlock = new LinkedHashMap<>();
             
             /*
             2- compute measures
@@ -419,11 +414,13 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
                 // look for current foi (for observation separation)
                 currentFoi = asString(getColumnValue(foiIndex, line, currentFoi));
 
+                Long lineDate = null;
                 // look for current date (for profile observation separation)
                 if (!dateIndexes.equals(mainIndexes)) {
                     Optional<Long> dateO = parseDate(line, null, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         currentTime = dateO.get();
+                        lineDate = currentTime;
                     } else {
                         continue;
                     }
@@ -433,21 +430,21 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
                 ObservedProperty observedProperty = obsPropMap.get(obsPropId);
 
                 // checks if row matches the observed properties wanted
-                if (observedProperty == null || !sortedMeasureColumns.contains(observedProperty.id)) {
+                if (observedProperty == null || !measureColumns.contains(observedProperty.id)) {
                     continue;
                 }
 
-                ObservationBlock currentBlock = getOrCreateObservationBlock(observationBlock, currentProc, currentFoi, currentTime, measureColums);
+                ObservationBlock currentBlock = batcher.getOrCreateBlock(currentProc, currentFoi, currentTime, measureColums);
 
                 currentBlock.updateObservedProperty(observedProperty);
 
-                // update temporal interval
+                // update temporal interval (the date may already have been parsed for the observation separation)
                 Long millis = null;
                 if (!dateIndexes.isEmpty()) {
-                    Optional<Long> dateO = parseDate(line, millis, dateIndexes, sdf, lineNumber);
+                    Optional<Long> dateO = parseDate(line, lineDate, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         millis = dateO.get();
-                        result.spatialBound.addDate(millis);
+                        batcher.getDataset().spatialBound.addDate(millis);
                         currentBlock.addDate(millis);
                     } else {
                         continue;
@@ -458,7 +455,7 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
                 if (procWpos.position.length == 2) {
                     final double latitude = procWpos.position[0];
                     final double longitude = procWpos.position[1];
-                    result.spatialBound.addXYCoordinate(longitude, latitude);
+                    batcher.getDataset().spatialBound.addXYCoordinate(longitude, latitude);
                     currentBlock.addPosition(millis, latitude, longitude);
                 }
 
@@ -494,18 +491,7 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
             }
 
 
-            /*
-            3- build results
-            =============*/
-            final Set<Phenomenon> phenomenons = new HashSet<>();
-            final Set<SamplingFeature> samplingFeatures = new HashSet<>();
-            int obsCpt = 0;
-            for (ObservationBlock ob : observationBlock.values()) {
-                final String oid = dataFileName + '-' + obsCpt;
-                obsCpt++;
-                buildObservation(result, oid, ob, phenomenons, samplingFeatures, query.getResponseFormat());
-            }
-            return result;
+            batcher.finish();
         } catch (IOException | InterruptedException ex) {
             LOGGER.log(Level.WARNING, "problem reading csv file", ex);
             throw new DataStoreException(ex);
@@ -617,6 +603,7 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
         // pre-load the obsProp columns has we don't want to open twice the file
         // some DataFileReader are not concurrent (like xlsx) ans this will cause issue
         final List<String> sortedMeasureColumns = getObsPropColumns().stream().sorted().collect(Collectors.toList());
+        final Set<String> measureColumns        = new HashSet<>(sortedMeasureColumns);
 
         Map<String, ProcedureDataset> result = new LinkedHashMap<>();
         Map<String, double[]> procedurePos   = new HashMap<>();
@@ -714,6 +701,7 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
             final List<Field> qualityFields      = buildExtraFields(qualityColumns, qualityColumnsIds, qualityColumnsTypes, FieldType.QUALITY);
             final List<Field> parameterFields    = buildExtraFields(parameterColumns, parameterColumnsIds, parameterColumnsTypes, FieldType.PARAMETER);
             final Map<String, Map<String, Field>> measureColumnsMap = new HashMap<>();
+            final DateFormat sdf                 = new SimpleDateFormat(this.dateFormat);
             
             int lineNumber                       = 1;
             
@@ -745,7 +733,7 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
                 
                 
                 // checks if row matches the observed properties wanted
-                if (!sortedMeasureColumns.contains(observedProperty)) {
+                if (!measureColumns.contains(observedProperty)) {
                     continue;
                 }
 
@@ -758,7 +746,7 @@ public class CsvSplittedObservationStore extends FileParsingObservationStore {
                 // update temporal interval
                 Date dateParse        = null;
                 if (!dateIndexes.isEmpty()) {
-                    Optional<Long> d = parseDate(line, null, dateIndexes, new SimpleDateFormat(this.dateFormat), lineNumber);
+                    Optional<Long> d = parseDate(line, null, dateIndexes, sdf, lineNumber);
                     if (d.isEmpty()) {
                         continue;
                     } else {
@@ -34,7 +34,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,17 +42,15 @@ import java.util.Set;
 import java.util.logging.Level;
 import org.apache.sis.storage.DataStoreException;
 import org.apache.sis.storage.DataStoreProvider;
+import org.constellation.exception.ConstellationException;
 import org.geotoolkit.observation.model.Field;
 import static org.geotoolkit.observation.model.FieldDataType.BOOLEAN;
 import static org.geotoolkit.observation.model.FieldDataType.JSON;
 import static org.geotoolkit.observation.model.FieldDataType.QUANTITY;
 import static org.geotoolkit.observation.model.FieldDataType.TEXT;
 import static org.geotoolkit.observation.model.FieldDataType.TIME;
-import org.geotoolkit.observation.model.ObservationDataset;
 import org.geotoolkit.observation.model.ProcedureDataset;
-import org.geotoolkit.observation.model.Phenomenon;
 import org.geotoolkit.observation.model.Procedure;
-import org.geotoolkit.observation.model.SamplingFeature;
 import org.geotoolkit.observation.query.DatasetQuery;
 import org.geotoolkit.storage.DataStores;
 import org.locationtech.jts.geom.Coordinate;
@@ -77,7 +74,7 @@ public class DbfObservationStore extends AbstractCsvStore {
     }
 
     @Override
-    public ObservationDataset getDataset(DatasetQuery query) throws DataStoreException {
+    protected void readDataset(final DatasetQuery query, final ObservationBatcher batcher) throws DataStoreException, ConstellationException {
         if (query.getAffectedSensorID() != null) {
             LOGGER.warning("DBFObservation store does not allow to override sensor ID");
         }
@@ -128,10 +125,6 @@ public class DbfObservationStore extends AbstractCsvStore {
            // special case where there is no header, and a specified observation property identifier
             List<ObservedProperty> fixedObsProperties = getObservedProperties(measureFields);
             MeasureColumns measureColumns             = new MeasureColumns(obsPropFields, mainColumns, observationType);
-
-             // final result
-            final ObservationDataset result = new ObservationDataset();
-            final Map<String, ObservationBlock> observationBlock = new LinkedHashMap<>();
             /*
             2- compute measures
             =================*/
@@ -174,17 +167,19 @@ public class DbfObservationStore extends AbstractCsvStore {
                 // look for current foi (for observation separation)
                 currentFoi = Objects.toString(getColumnValue(foiIndex, line, currentFoi));
 
+                Long lineDate = null;
                 // look for current date (for non timeseries observation separation)
                 if (!dateIndexes.equals(mainIndexes)) {
                     Optional<Long> dateO = parseDate(line, null, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         currentTime = dateO.get();
+                        lineDate = currentTime;
                     } else {
                         continue;
                     }
                 }
 
-                ObservationBlock currentBlock = getOrCreateObservationBlock(observationBlock, currentProc, currentFoi, currentTime, measureColumns);
+                ObservationBlock currentBlock = batcher.getOrCreateBlock(currentProc, currentFoi, currentTime, measureColumns);
 
                 currentBlock.updateObservedProperties(fixedObsProperties);
 
@@ -192,13 +187,13 @@ public class DbfObservationStore extends AbstractCsvStore {
                 a- build spatio-temporal information
                 ==================================*/
 
-                // update temporal interval
+                // update temporal interval (the date may already have been parsed for the observation separation)
                 Long millis = null;
                 if (!dateIndexes.isEmpty()) {
-                    Optional<Long> dateO = parseDate(line, millis, dateIndexes, sdf, lineNumber);
+                    Optional<Long> dateO = parseDate(line, lineDate, dateIndexes, sdf, lineNumber);
                     if (dateO.isPresent()) {
                         millis = dateO.get();
-                        result.spatialBound.addDate(millis);
+                        batcher.getDataset().spatialBound.addDate(millis);
                         currentBlock.addDate(millis);
                     } else {
                         continue;
@@ -211,7 +206,7 @@ public class DbfObservationStore extends AbstractCsvStore {
                     if (position.length == 2) {
                         final double latitude = position[0];
                         final double longitude = position[1];
-                        result.spatialBound.addXYCoordinate(longitude, latitude);
+                        batcher.getDataset().spatialBound.addXYCoordinate(longitude, latitude);
                         currentBlock.addPosition(millis, latitude, longitude);
                     }
                 } catch (ParseException | NumberFormatException ex) {
@@ -270,19 +265,7 @@ public class DbfObservationStore extends AbstractCsvStore {
                 }
             }
 
-            /*
-            3- build result
-            =============*/
-            final Set<Phenomenon> phenomenons = new HashSet<>();
-            final Set<SamplingFeature> samplingFeatures = new HashSet<>();
-            int obsCpt = 0;
-            final String fileName = dataFileName;
-            for (ObservationBlock ob : observationBlock.values()) {
-                final String oid = fileName + '-' + obsCpt;
-                obsCpt++;
-                buildObservation(result, oid, ob, phenomenons, samplingFeatures, query.getResponseFormat());
-            }
-            return result;
+            batcher.finish();
             
         } catch (IOException | InterruptedException ex) {
             throw new DataStoreException("problem reading dbf file", ex);
@@ -81,6 +81,7 @@ public abstract class AbstractSosHarvesterTest extends SpringContextTest {
     protected static Path mooDirectory;
     protected static Path mooFile;
     protected static Path multiPlatDirectory;
+    protected static Path multiPlatBatchDirectory;
     protected static Path bigdataDirectory;
     protected static Path survalDirectory;
     protected static Path noHeadDirectory;
@@ -133,6 +134,7 @@ public abstract class AbstractSosHarvesterTest extends SpringContextTest {
         ltDirectory               = writeResourceFileInDir("lt-ts", "LakeTile_001.dbf", "LakeTile_002.dbf");
         rtDirectory               = writeResourceFileInDir("rt-ts",  "rivertile_001.dbf", "rivertile_002.dbf");
         multiPlatDirectory        = writeResourceFileInDir("multi-plat", "multiplatform-1.csv", "multiplatform-2.csv");
+        multiPlatBatchDirectory   = writeResourceFileInDir("multi-plat-batch", "multiplatform-1.csv", "multiplatform-2.csv");
         bigdataDirectory          = writeResourceFileInDir("bigdata-profile", "bigdata-1.csv");
         survalDirectory           = writeResourceFileInDir("surval", "surval-small.csv");
         xDataDirectory            = writeResourceFileInDir("xdata", "xdata.xlsx");
@@ -1290,6 +1290,82 @@ public class SosHarvesterProcessTest extends AbstractSosHarvesterTest {
 
     }
 
+    @Test
+    public void harvestCSVTSMultiPlatformBatchTest() throws Exception {
+
+        SOSworker sosWorker = (SOSworker) wsEngine.buildWorker("sos", "default");
+        sosWorker.setServiceUrl("http://localhost/examind/");
+
+        STSWorker stsWorker = (STSWorker) wsEngine.buildWorker("sts", "default");
+        stsWorker.setServiceUrl("http://localhost/examind/");
+
+        int prev = getNbOffering(sosWorker, 0);
+
+        Assert.assertEquals(ORIGIN_NB_SENSOR, prev);
+
+        String datasetId = "SOS_DATA";
+
+        final ProcessDescriptor desc = ProcessFinder.getProcessDescriptor(ExamindProcessFactory.NAME, SosHarvesterProcessDescriptor.NAME);
+
+        final ParameterValueGroup in = desc.getInputDescriptor().createValue();
+        in.parameter(SosHarvesterProcessDescriptor.DATASET_IDENTIFIER_NAME).setValue(datasetId);
+        in.parameter(SosHarvesterProcessDescriptor.DATA_FOLDER_NAME).setValue(multiPlatBatchDirectory.toUri().toString());
+
+        in.parameter(SosHarvesterProcessDescriptor.DATE_COLUMN_NAME).setValue("DATE");
+        in.parameter(SosHarvesterProcessDescriptor.MAIN_COLUMN_NAME).setValue("DATE");
+
+        in.parameter(SosHarvesterProcessDescriptor.DATE_FORMAT_NAME).setValue("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+        in.parameter(SosHarvesterProcessDescriptor.LATITUDE_COLUMN_NAME).setValue("LATITUDE");
+        in.parameter(SosHarvesterProcessDescriptor.LONGITUDE_COLUMN_NAME).setValue("LONGITUDE");
+
+        ParameterValue val1 = (ParameterValue) desc.getInputDescriptor().descriptor(SosHarvesterProcessDescriptor.OBS_PROP_COLUMN_NAME).createValue();
+        val1.setValue("TEMP (degree_Celsius)");
+        in.values().add(val1);
+        ParameterValue val2 = (ParameterValue) desc.getInputDescriptor().descriptor(SosHarvesterProcessDescriptor.OBS_PROP_COLUMN_NAME).createValue();
+        val2.setValue("VEPK (meter2 second)");
+        in.values().add(val2);
+
+        in.parameter(SosHarvesterProcessDescriptor.OBS_TYPE_NAME).setValue("Timeserie");
+        in.parameter(SosHarvesterProcessDescriptor.THING_COLUMN_NAME).setValue("PLATFORM");
+        in.parameter(SosHarvesterProcessDescriptor.THING_REGEX_NAME).setValue("(^[^/]*)");
+        in.parameter(SosHarvesterProcessDescriptor.REMOVE_PREVIOUS_NAME).setValue(false);
+
+        // read each file once, and insert its observations by batches of 10 lines
+        in.parameter(SosHarvesterProcessDescriptor.BATCH_SIZE_NAME).setValue(10);
+
+        ParameterValue scval1 = (ParameterValue) desc.getInputDescriptor().descriptor(SosHarvesterProcessDescriptor.SERVICE_ID_NAME).createValue();
+        scval1.setValue(new ServiceProcessReference(sc));
+        in.values().add(scval1);
+        ParameterValue scval2 = (ParameterValue) desc.getInputDescriptor().descriptor(SosHarvesterProcessDescriptor.SERVICE_ID_NAME).createValue();
+        scval2.setValue(new ServiceProcessReference(sc2));
+        in.values().add(scval2);
+
+        org.geotoolkit.process.Process proc = desc.createProcess(in);
+        ParameterValueGroup results = proc.call();
+
+        int nbInserted = (Integer) results.parameter(SosHarvesterProcessDescriptor.FILE_INSERTED_COUNT_NAME).getValue();
+        Assert.assertEquals(2, nbInserted);
+
+        // verify that the sensors have been created and linked to the service
+        Assert.assertTrue(sensorBusiness.isLinkedSensor(sc.getId(), "p001"));
+        Assert.assertTrue(sensorBusiness.isLinkedSensor(sc.getId(), "p002"));
+        Assert.assertTrue(sensorBusiness.isLinkedSensor(sc.getId(), "p003"));
+
+        /*
+        * all the measures must have been inserted, as with a single extraction
+        */
+        ObservationOffering offp = getOffering(sosWorker, "p001");
+        Assert.assertNotNull(offp);
+
+        String observedProperty = getCompositePhenomenon(offp);
+        assertNotNull(observedProperty);
+
+        Assert.assertEquals(95, getNbMeasure(stsWorker, "p001"));
+        Assert.assertEquals(70, getNbMeasure(stsWorker, "p002"));
+        Assert.assertEquals(35, getNbMeasure(stsWorker, "p003"));
+    }
+
     @Test
     public void harvesterCSVFlatProfileSingleTest() throws Exception {
 
@@ -18,6 +18,9 @@
  */
 package com.examind.store.observation;
 
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Optional;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -40,4 +43,35 @@ public class FileParsingUtilsTest {
 
     }
 
+    @Test
+    public void extractWithRegexTest() throws Exception {
+        // the same pattern is reused from the cache on the second call
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals("p001", FileParsingUtils.extractWithRegex("(^[^/]*)", "p001/sub"));
+            Assert.assertEquals("TEMP", FileParsingUtils.extractWithRegex("(.*) \\(", "TEMP (degree_Celsius)"));
+        }
+        Assert.assertEquals("no match", FileParsingUtils.extractWithRegex("(^X.*)", "no match"));
+        Assert.assertEquals("default", FileParsingUtils.extractWithRegex("(^X.*)", "no match", "default"));
+
+        // more distinct patterns than the cache holds, the evicted ones are compiled again
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals("v" + i, FileParsingUtils.extractWithRegex("(v" + i + ")-", "v" + i + "-x"));
+        }
+        Assert.assertEquals("p001", FileParsingUtils.extractWithRegex("(^[^/]*)", "p001/sub"));
+    }
+
+    @Test
+    public void parseCompositeDateTest() throws Exception {
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-ddHH:mm:ss");
+        Object[] line = new Object[] {"2000-07-28", "00:30:00", "12.5"};
+
+        Optional<Long> result = FileParsingUtils.parseDate(line, null, Arrays.asList(0, 1), sdf, 1);
+        Assert.assertTrue(result.isPresent());
+        Assert.assertEquals(sdf.parse("2000-07-2800:30:00").getTime(), (long) result.get());
+
+        // pre-computed value is returned without parsing
+        result = FileParsingUtils.parseDate(line, 12L, Arrays.asList(0, 1), sdf, 1);
+        Assert.assertEquals(12L, (long) result.get());
+    }
+
 }
@@ -19,6 +19,7 @@
 package com.examind.store.observation.csv;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.time.temporal.Temporal;
 import java.util.List;
 import java.util.Set;
@@ -224,6 +225,62 @@ public class CsvObservationStoreTest extends AbstractCsvStoreTest {
         Assert.assertEquals("2018-11-30T11:59:00" , format(tp.getEnding()));
     }
 
+    /**
+     * A file with a single procedure must be extracted by batches of bounded size,
+     * in a single pass, without losing any measure.
+     */
+    @Test
+    public void csvStoreTSBatchTest() throws Exception {
+
+        CsvObservationStoreFactory factory = new CsvObservationStoreFactory();
+        ParameterValueGroup params = factory.getOpenParameters().createValue();
+        params.parameter(CsvObservationStoreFactory.LOCATION).setValue(mooFile.toUri().toString());
+
+        params.parameter(CsvObservationStoreFactory.DATE_COLUMN.getName().getCode()).setValue("DATE (yyyy-mm-ddThh:mi:ssZ)");
+        params.parameter(CsvObservationStoreFactory.MAIN_COLUMN.getName().getCode()).setValue("DATE (yyyy-mm-ddThh:mi:ssZ)");
+
+        params.parameter(CsvObservationStoreFactory.DATE_FORMAT.getName().getCode()).setValue("yyyy-MM-dd'T'HH:mm:ss'Z'");
+        params.parameter(CsvObservationStoreFactory.FOI_COLUMN.getName().getCode()).setValue("CONFIG_MISSION_NUMBER");
+        params.parameter(CsvObservationStoreFactory.LATITUDE_COLUMN.getName().getCode()).setValue("LATITUDE (degree_north)");
+        params.parameter(CsvObservationStoreFactory.LONGITUDE_COLUMN.getName().getCode()).setValue("LONGITUDE (degree_east)");
+
+        params.parameter(CsvObservationStoreFactory.OBS_PROP_COLUMN.getName().getCode()).setValue("TEMP LEVEL0 (degree_Celsius),VEPK LEVEL0 (meter2 second)");
+
+        params.parameter(CsvObservationStoreFactory.OBSERVATION_TYPE.getName().getCode()).setValue("Timeserie");
+        params.parameter(CsvObservationStoreFactory.PROCEDURE_ID.getName().getCode()).setValue("urn:sensor:3");
+        params.parameter(CsvObservationStoreFactory.FILE_MIME_TYPE.getName().getCode()).setValue("csv");
+
+        params.parameter(CSVProvider.SEPARATOR.getName().getCode()).setValue(Character.valueOf(','));
+
+        CsvObservationStore store = factory.open(params);
+
+        ObservationDataset full = store.getDataset(new DatasetQuery());
+        final int total = countValues(full);
+        Assert.assertTrue(total > 10);
+
+        final List<ObservationDataset> batches = new ArrayList<>();
+        store.getDatasets(new DatasetQuery(), 10, batches::add);
+
+        Assert.assertTrue(batches.size() >= (total + 9) / 10);
+        int sum = 0;
+        for (ObservationDataset batch : batches) {
+            final int nb = countValues(batch);
+            Assert.assertTrue("batch of " + nb + " values", nb <= 10);
+            Assert.assertEquals(1, batch.procedures.size());
+            Assert.assertEquals("urn:sensor:3", batch.procedures.get(0).getId());
+            sum = sum + nb;
+        }
+        Assert.assertEquals(total, sum);
+    }
+
+    private static int countValues(ObservationDataset dataset) {
+        int count = 0;
+        for (Observation obs : dataset.observations) {
+            count = count + ((ComplexResult) obs.getResult()).getNbValues();
+        }
+        return count;
+    }
+
     @Test
     public void csvStoreBooleanProfileTest() throws Exception {
 
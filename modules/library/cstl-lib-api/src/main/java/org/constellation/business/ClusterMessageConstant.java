@@ -42,4 +42,16 @@ public class ClusterMessageConstant {
      */
     public static final String PRV_VALUE_ACTION_UPDATED = "updated";
 
+    public static final String USR_MESSAGE_TYPE_ID = "user";
+
+    /**
+     * Send by the user business when a user is created, updated, (de)activated or deleted.
+     */
+    public static final String USR_VALUE_ACTION_UPDATED = "updated";
+
+    /**
+     * Login of the created, updated, (de)activated or deleted user.
+     */
+    public static final String USR_KEY_LOGIN = "login";
+
 }
@@ -23,6 +23,7 @@ import java.util.List;
 import org.constellation.api.TilingMode;
 import org.constellation.dto.TilingResult;
 import org.constellation.exception.ConstellationException;
+import org.opengis.geometry.Envelope;
 
 /**
  *
@@ -62,6 +63,19 @@ public interface IPyramidBusiness {
      */
     TilingResult pyramidDatas(Integer userId, String pyramidDataName, List<Integer> dataIds, final String crs, final TilingMode mode, final int nbLevel) throws ConstellationException;
 
+    /**
+     * Regenerates the tiles of an existing pyramid which intersect the given area, from the data used to create it.
+     * The other tiles are kept. This allows to update a pyramid after a local change of its source data.
+     *
+     * @param userId The task owner.
+     * @param pyramidDataId The pyramid data identifier.
+     * @param area The area to regenerate.
+     *
+     * @return {@link TilingResult}
+     * @throws ConstellationException If the data is not a pyramid or if its source data can not be found.
+     */
+    TilingResult updatePyramid(Integer userId, int pyramidDataId, Envelope area) throws ConstellationException;
+
     /**
      * Generates a pyramid conform for each data of the provider.
      * N.B : Generated pyramid contains coverage real values, it's not styled for rendering.
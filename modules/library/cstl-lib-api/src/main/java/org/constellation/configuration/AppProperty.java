@@ -313,7 +313,45 @@ public enum AppProperty {
     
     EXA_OM2_DUCKDB_EXTENSION_DIRECTORY("examind.om2.duckdb.extension.directory", false, String.class),
     
-    EXA_ALLOWED_ORIGIN("examind.allowed.origin", false, List.class);
+    EXA_ALLOWED_ORIGIN("examind.allowed.origin", false, List.class),
+
+    /**
+     * Maximum number of WPS jobs running at the same time. If not set or lower than 1, there is no limit.
+     */
+    EXA_WPS_MAX_RUNNING_JOBS("examind.wps.max.running.jobs", false, Integer.class),
+
+    /**
+     * Maximum number of WPS jobs waiting for a free execution slot, when {@link #EXA_WPS_MAX_RUNNING_JOBS} is set.
+     */
+    EXA_WPS_JOB_QUEUE_SIZE("examind.wps.job.queue.size", false, Integer.class),
+
+    /**
+     * Maximum number of WPS jobs running or waiting for a same user. If not set or lower than 1, there is no limit.
+     */
+    EXA_WPS_MAX_JOBS_PER_USER("examind.wps.max.jobs.per.user", false, Integer.class),
+
+    /**
+     * Minimal time in milliseconds between two persisted progress updates of a running task.
+     * State changes (start, completion, failure, ...) are always persisted immediately.
+     */
+    EXA_TASK_PROGRESS_UPDATE_INTERVAL("examind.task.progress.update.interval", false, Long.class),
+
+    /**
+     * Cluster implementation : "local" (default) for a single instance, or "database" to share messages,
+     * locks and node heartbeats between all the instances connected to the same configuration database.
+     */
+    EXA_CLUSTER_MODE("examind.cluster.mode", false, String.class),
+
+    /**
+     * Time in milliseconds between two polls of the cluster message table, when {@link #EXA_CLUSTER_MODE} is "database".
+     */
+    EXA_CLUSTER_POLL_INTERVAL("examind.cluster.poll.interval", false, Long.class),
+
+    /**
+     * Time in milliseconds after which a cluster node which did not send any heartbeat is considered as dead,
+     * and its locks released, when {@link #EXA_CLUSTER_MODE} is "database".
+     */
+    EXA_CLUSTER_NODE_TIMEOUT("examind.cluster.node.timeout", false, Long.class);
 
     private final String key;
     private final boolean secure;
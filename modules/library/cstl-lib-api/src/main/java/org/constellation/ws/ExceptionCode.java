@@ -202,6 +202,12 @@ public final class ExceptionCode extends CodeList<ExceptionCode> {
      */
     public static final ExceptionCode INVALID_SUBSETTING = new ExceptionCode("INVALID_SUBSETTING");
 
+    /**
+     * The server is too busy to accept the request.
+     * Used by WPS 2.0
+     */
+    public static final ExceptionCode SERVER_BUSY = new ExceptionCode("SERVER_BUSY");
+
 
     /**
      * Constructs an enum with the given name. The new enum is
@@ -114,6 +114,24 @@ public class TokenUtils {
         return new String(encode(digest.digest(signatureBuilder.toString().getBytes())));
     }
 
+    /**
+     * Return the expiration time of a well formed token.
+     *
+     * @param access_token A token previously checked with {@link #validateToken(String, String)}.
+     * @return The expiration time in milliseconds, or 0 if the token is malformed.
+     */
+    public static long getExpiration(String access_token) {
+        String[] parts = access_token.split(TOKEN_SEPARATOR);
+        if (parts.length < 4) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
     public static String getUserNameFromToken(String access_token) {
         if (null == access_token) {
             return null;
@@ -19,6 +19,7 @@
 package org.constellation.util;
 
 import org.apache.sis.referencing.CRS;
+import org.apache.sis.referencing.IdentifiedObjects;
 import org.constellation.dto.CRSList;
 import org.opengis.referencing.IdentifiedObject;
 import org.opengis.referencing.crs.CRSAuthorityFactory;
@@ -27,6 +28,7 @@ import org.opengis.util.FactoryException;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.apache.sis.geometry.Envelopes;
@@ -58,6 +60,16 @@ public class CRSUtilities {
      */
     private static Map<String, String> crsList;
 
+    /**
+     * EPSG codes already found by {@link #lookupEPSG(CoordinateReferenceSystem)}, an empty value meaning that no code was found.
+     */
+    private static final Map<CoordinateReferenceSystem, Optional<Integer>> EPSG_CODES = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of entries in {@link #EPSG_CODES}.
+     */
+    private static final int EPSG_CODES_SIZE = 1000;
+
     /**
      * Load in cache two kind of CRS listing.
      */
@@ -234,4 +246,25 @@ public class CRSUtilities {
             throw new ConstellationException("Invalid CRS code : " + crs);
         }
     }
+
+    /**
+     * Search the EPSG code of a CRS, like {@link IdentifiedObjects#lookupEPSG(IdentifiedObject)}, but remembering the result.
+     * The lookup may have to scan the EPSG database when the CRS does not hold its identifier,
+     * and capabilities documents ask it for every layer while they usually share a few CRS.
+     *
+     * @param crs The coordinate reference system.
+     * @return The EPSG code of the CRS, or {@code null} if none was found.
+     * @throws FactoryException if an error occurred while searching the EPSG database.
+     */
+    public static Integer lookupEPSG(final CoordinateReferenceSystem crs) throws FactoryException {
+        Optional<Integer> code = EPSG_CODES.get(crs);
+        if (code == null) {
+            code = Optional.ofNullable(IdentifiedObjects.lookupEPSG(crs));
+            if (EPSG_CODES.size() >= EPSG_CODES_SIZE) {
+                EPSG_CODES.clear();
+            }
+            EPSG_CODES.put(crs, code);
+        }
+        return code.orElse(null);
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.metadata.index.elasticsearch;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.elasticsearch.ElasticsearchException;
+
+/**
+ * Pending documents of an indexation, sent by batches of a fixed size.
+ * A batch which can not be sent is logged and counted as failed, the indexation goes on with the next batch.
+ */
+final class DocumentBulk {
+
+    private static final Logger LOGGER = Logger.getLogger("org.constellation.metadata.index.elasticsearch");
+
+    /**
+     * Index a batch of documents.
+     */
+    @FunctionalInterface
+    interface BatchIndexer {
+        /**
+         * @param docs Documents to index, by identifier.
+         * @return the identifiers of the documents that could not be indexed.
+         */
+        Set<String> index(Map<String, Map> docs) throws IOException;
+    }
+
+    private final int batchSize;
+
+    private final BatchIndexer indexer;
+
+    private final Map<String, Map> pending = new LinkedHashMap<>();
+
+    private int indexed;
+
+    private int failed;
+
+    /**
+     * @param batchSize Maximum number of documents sent in a single batch.
+     * @param indexer Index a batch of documents.
+     */
+    DocumentBulk(final int batchSize, final BatchIndexer indexer) {
+        this.batchSize = batchSize;
+        this.indexer   = indexer;
+    }
+
+    /**
+     * Add a document, and send the pending batch if it is full.
+     */
+    void add(final String id, final Map doc) {
+        pending.put(id, doc);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Send the pending documents, then empty the batch.
+     */
+    void flush() {
+        if (pending.isEmpty()) return;
+        try {
+            final Set<String> batchFailed = indexer.index(pending);
+            indexed += pending.size() - batchFailed.size();
+            failed  += batchFailed.size();
+            LOGGER.log(Level.FINER, "{0} metadata indexed", pending.size() - batchFailed.size());
+        } catch (IOException | ElasticsearchException ex) {
+            LOGGER.log(Level.WARNING, "Error while indexing a batch of " + pending.size() + " documents, move to next batch...", ex);
+            failed += pending.size();
+        } finally {
+            pending.clear();
+        }
+    }
+
+    /**
+     * @return the number of documents indexed so far.
+     */
+    int getIndexed() {
+        return indexed;
+    }
+
+    /**
+     * @return the number of documents which could not be indexed so far.
+     */
+    int getFailed() {
+        return failed;
+    }
+}
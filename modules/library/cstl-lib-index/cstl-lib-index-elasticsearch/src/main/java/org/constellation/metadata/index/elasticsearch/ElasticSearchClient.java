@@ -46,6 +46,10 @@ import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.elasticsearch.action.admin.cluster.settings.ClusterUpdateSettingsResponse;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.SearchHit;
@@ -63,6 +67,7 @@ import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.support.WriteRequest.RefreshPolicy;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
 import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.RestHighLevelClient;
@@ -73,6 +78,7 @@ import org.elasticsearch.client.indices.GetIndexRequest;
 import org.elasticsearch.common.Strings;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.script.Script;
 import org.elasticsearch.search.Scroll;
 import org.elasticsearch.search.aggregations.AggregationBuilders;
@@ -107,6 +113,16 @@ public class ElasticSearchClient {
 
     private static final int socketTimeout = 180000;
 
+    /**
+     * Maximum number of attempts for bulk items rejected because the cluster is overloaded.
+     */
+    private static final int BULK_MAX_ATTEMPTS = 5;
+
+    /**
+     * Pause in milliseconds before the first retry of rejected bulk items, doubled at each retry.
+     */
+    private static final long BULK_BACKOFF = 200;
+
     // Constructors ----------------------------------------------------------------
     protected ElasticSearchClient(final String id) {
         this.id = id;
@@ -207,6 +223,131 @@ public class ElasticSearchClient {
         return Result.CREATED.equals(response.getResult()) || Result.UPDATED.equals(response.getResult());
     }
 
+    /**
+     * Index several documents in a single {@code _bulk} request.
+     * The documents, or the whole request, rejected because the cluster is overloaded (HTTP 429 / rejected execution)
+     * are sent again after an exponential backoff, up to {@link #BULK_MAX_ATTEMPTS} attempts.
+     *
+     * @param indexName Name of the index.
+     * @param docs Documents to index, by identifier.
+     * @param refresh Refresh policy applied to the whole request.
+     *
+     * @return the identifiers of the documents that could not be indexed.
+     * @throws IOException if the bulk request could not be sent.
+     */
+    public Set<String> indexDocs(final String indexName, final Map<String, Map> docs, final RefreshPolicy refresh) throws IOException {
+        return indexDocs(docs, toSend -> {
+            final BulkRequest request = new BulkRequest().setRefreshPolicy(refresh);
+            for (Entry<String, Map> doc : toSend.entrySet()) {
+                request.add(new IndexRequest(indexName).id(doc.getKey()).source(doc.getValue()));
+            }
+            final BulkResponse response = client.bulk(request, RequestOptions.DEFAULT);
+            final Map<String, BulkFailure> failures = new LinkedHashMap<>();
+            if (response.hasFailures()) {
+                for (BulkItemResponse item : response) {
+                    if (item.isFailed()) {
+                        failures.put(item.getId(), new BulkFailure(item.status(), item.getFailureMessage()));
+                    }
+                }
+            }
+            return failures;
+        }, BULK_MAX_ATTEMPTS, BULK_BACKOFF);
+    }
+
+    /**
+     * Send a bulk of documents, retrying the rejected documents or requests.
+     *
+     * @param docs Documents to index, by identifier.
+     * @param sender Send a bulk request.
+     * @param maxAttempts Maximum number of attempts for a document.
+     * @param backoff Pause in milliseconds before the first retry, doubled at each retry.
+     *
+     * @return the identifiers of the documents that could not be indexed.
+     * @throws IOException if the bulk request could not be sent.
+     */
+    static Set<String> indexDocs(final Map<String, Map> docs, final BulkSender sender, final int maxAttempts, final long backoff) throws IOException {
+        final Set<String> failed = new HashSet<>();
+        Map<String, Map> toSend = docs;
+        for (int attempt = 1; !toSend.isEmpty(); attempt++) {
+            final boolean lastAttempt = attempt >= maxAttempts;
+            final Map<String, Map> rejected = new LinkedHashMap<>();
+            try {
+                for (Entry<String, BulkFailure> failure : sender.send(toSend).entrySet()) {
+                    final String docId = failure.getKey();
+                    if (!lastAttempt && failure.getValue().isRejection()) {
+                        rejected.put(docId, toSend.get(docId));
+                    } else {
+                        LOGGER.log(Level.WARNING, "Error while indexing document {0}: {1}", new Object[]{docId, failure.getValue().message()});
+                        failed.add(docId);
+                    }
+                }
+            } catch (IOException | ElasticsearchException ex) {
+                if (lastAttempt || !isRejection(ex)) throw ex;
+                LOGGER.log(Level.FINE, "Bulk request rejected, attempt {0} of {1}", new Object[]{attempt, maxAttempts});
+                rejected.putAll(toSend);
+            }
+            if (!rejected.isEmpty()) {
+                try {
+                    Thread.sleep(backoff << (attempt - 1));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    failed.addAll(rejected.keySet());
+                    break;
+                }
+            }
+            toSend = rejected;
+        }
+        return failed;
+    }
+
+    /**
+     * Return {@code true} if a whole bulk request has been rejected because the cluster is overloaded.
+     */
+    private static boolean isRejection(final Exception ex) {
+        if (ex instanceof ElasticsearchException ee) {
+            return ee.status() == RestStatus.TOO_MANY_REQUESTS || isRejection(ee.getMessage());
+        } else if (ex instanceof ResponseException re) {
+            return re.getResponse().getStatusLine().getStatusCode() == RestStatus.TOO_MANY_REQUESTS.getStatus();
+        }
+        return false;
+    }
+
+    private static boolean isRejection(final String message) {
+        return message != null && message.contains("rejected_execution");
+    }
+
+    /**
+     * Send a bulk request.
+     */
+    @FunctionalInterface
+    interface BulkSender {
+        /**
+         * @param docs Documents to index, by identifier.
+         * @return the failed documents by identifier.
+         */
+        Map<String, BulkFailure> send(Map<String, Map> docs) throws IOException;
+    }
+
+    /**
+     * Failure of a document in a bulk request.
+     */
+    record BulkFailure(RestStatus status, String message) {
+
+        boolean isRejection() {
+            return status == RestStatus.TOO_MANY_REQUESTS || ElasticSearchClient.isRejection(message);
+        }
+    }
+
+    /**
+     * Make all the operations performed on the index available for search.
+     *
+     * @param indexName Name of the index.
+     * @throws IOException if the refresh request could not be sent.
+     */
+    public void refresh(final String indexName) throws IOException {
+        client.indices().refresh(new RefreshRequest(indexName), RequestOptions.DEFAULT);
+    }
+
     public boolean indexDoc(final String indexName,   final String id,
                             final String SpatialType, final String CRSNameCode,
                             final int spaceDim,       final double ...coordinates) throws IOException {
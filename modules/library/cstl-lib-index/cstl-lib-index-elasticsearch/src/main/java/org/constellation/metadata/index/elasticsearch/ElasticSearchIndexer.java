@@ -38,6 +38,7 @@ import static org.constellation.metadata.CSWQueryable.ISO_FC_QUERYABLE;
 import static org.constellation.metadata.CSWQueryable.ISO_QUERYABLE;
 import org.constellation.metadata.index.Indexer;
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.support.WriteRequest.RefreshPolicy;
 import org.geotoolkit.metadata.MetadataIoException;
 import org.geotoolkit.metadata.MetadataType;
 import org.geotoolkit.index.IndexingException;
@@ -80,6 +81,11 @@ public abstract class ElasticSearchIndexer<E> implements Indexer<E> {
      */
     protected static final List<String> indexationToStop = new ArrayList<>();
 
+    /**
+     * Maximum number of documents sent in a single bulk request.
+     */
+    private static final int BULK_SIZE = 500;
+
     public ElasticSearchIndexer(final MetadataStore store, final String host, int port, String scheme, String user, String pwd, final String indexName,
             final Map<String, PathType> additionalQueryable) throws IndexingException {
 
@@ -142,25 +148,31 @@ public abstract class ElasticSearchIndexer<E> implements Indexer<E> {
         LOGGER.log(Level.INFO, "Creating ElasticSearch index for please wait...");
 
         final long time     = System.currentTimeMillis();
-        final int nbEntries = toIndex.size();
+        int nbEntries       = 0;
+        int failed          = 0;
         try {
             createMapping();
 
+            final DocumentBulk bulk = newBulk(RefreshPolicy.NONE);
             for (E entry : toIndex) {
                 if (!stopIndexing && !indexationToStop.contains(indexName)) {
-                    indexDocument(entry);
+                    addToBulk(bulk, entry);
                 } else {
                      LOGGER.info("Index creation stopped after " + (System.currentTimeMillis() - time) + " ms for service:" + indexName);
                      stopIndexation(client, indexName);
                      return;
                 }
             }
+            bulk.flush();
+            nbEntries = bulk.getIndexed();
+            failed    = bulk.getFailed();
+            client.refresh(indexName);
         } catch (IOException ex) {
             LOGGER.log(Level.SEVERE,"error while indexing: ", ex.getMessage());
             throw new IndexingException("IOException while indexing documents:" + ex.getMessage(), ex);
         }
         LOGGER.log(Level.INFO, "Index creation process in " + (System.currentTimeMillis() - time) + " ms\n" +
-                " documents indexed: " + nbEntries);
+                " documents indexed: " + nbEntries + (failed > 0 ? ", failures: " + failed : ""));
     }
 
     @Override
@@ -168,18 +180,19 @@ public abstract class ElasticSearchIndexer<E> implements Indexer<E> {
         LOGGER.log(Level.INFO, "(light memory) Creating ElasticSearch index please wait...");
         final long time  = System.currentTimeMillis();
         int nbEntries      = 0;
+        int failed         = 0;
         try {
             LOGGER.log(Level.INFO, "starting indexing...");
             createMapping();
 
+            final DocumentBulk bulk = newBulk(RefreshPolicy.NONE);
             if (store.supportEntryIterator()) {
                 final Iterator<E> entries = (Iterator<E>) store.getEntryIterator();
                 while (entries.hasNext()) {
                     if (!stopIndexing && !indexationToStop.contains(indexName)) {
 
                         final E entry = entries.next();
-                        indexDocument(entry);
-                        nbEntries++;
+                        addToBulk(bulk, entry);
 
                     } else {
                          LOGGER.info("Index creation stopped after " + (System.currentTimeMillis() - time) + " ms for service:" + indexName);
@@ -197,8 +210,7 @@ public abstract class ElasticSearchIndexer<E> implements Indexer<E> {
                     if (!stopIndexing && !indexationToStop.contains(indexName)) {
                         try {
                             final E entry = getEntry(identifier);
-                            indexDocument(entry);
-                            nbEntries++;
+                            addToBulk(bulk, entry);
                         } catch (IndexingException ex) {
                             LOGGER.warning("Metadata IO exeption while indexing metadata: " + identifier + " " + ex.getMessage() + "\nmove to next metadata...");
                         }
@@ -212,12 +224,17 @@ public abstract class ElasticSearchIndexer<E> implements Indexer<E> {
                     ((CloseableIterator)identifiers).close();
                 }
             }
+            bulk.flush();
+            nbEntries = bulk.getIndexed();
+            failed    = bulk.getFailed();
+            client.refresh(indexName);
 
         } catch (MetadataIoException | IOException ex) {
             LOGGER.log(Level.SEVERE,"error while indexing: ", ex.getMessage());
             throw new IndexingException("IOException while indexing documents:" + ex.getMessage(), ex);
         }
-        LOGGER.log(Level.INFO, "Index creation process in " + (System.currentTimeMillis() - time) + " ms\n documents indexed: " + nbEntries + ".");
+        LOGGER.log(Level.INFO, "Index creation process in " + (System.currentTimeMillis() - time) + " ms\n documents indexed: " + nbEntries
+                + (failed > 0 ? ", failures: " + failed : "") + ".");
     }
 
     @Override
@@ -247,8 +264,37 @@ public abstract class ElasticSearchIndexer<E> implements Indexer<E> {
     */
     @Override
     public void indexDocuments(List<E> documents) {
+        final DocumentBulk bulk = newBulk(RefreshPolicy.IMMEDIATE);
         for (E doc : documents) {
-            indexDocument(doc);
+            addToBulk(bulk, doc);
+        }
+        bulk.flush();
+        if (bulk.getFailed() > 0) {
+            LOGGER.log(Level.WARNING, "{0} documents on {1} could not be indexed", new Object[]{bulk.getFailed(), documents.size()});
+        }
+    }
+
+    /**
+     * Create a bulk sending its documents to the index by batches of {@link #BULK_SIZE}.
+     *
+     * @param refresh Refresh policy applied to each batch.
+     */
+    private DocumentBulk newBulk(final RefreshPolicy refresh) {
+        return new DocumentBulk(BULK_SIZE, docs -> client.indexDocs(indexName, docs, refresh));
+    }
+
+    /**
+     * Add a document to the pending bulk, and send the batch if it is full.
+     * A metadata which can not be converted to a document is logged and skipped.
+     *
+     * @param bulk Pending documents.
+     * @param metadata The metadata to index.
+     */
+    private void addToBulk(final DocumentBulk bulk, final E metadata) {
+        try {
+            bulk.add(getIdentifier(metadata), createDocument(metadata));
+        } catch (IndexingException ex) {
+            LOGGER.log(Level.WARNING, "Error while indexing single document", ex);
         }
     }
 
@@ -0,0 +1,144 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.metadata.index.elasticsearch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.constellation.metadata.index.elasticsearch.ElasticSearchClient.BulkFailure;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.rest.RestStatus;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Bulk indexation without an ElasticSearch cluster: batching, retry of the rejected documents and failure isolation.
+ */
+public class DocumentBulkTest {
+
+    @Test
+    public void batchingTest() {
+        final List<Integer> batches = new ArrayList<>();
+        final DocumentBulk bulk = new DocumentBulk(500, docs -> {
+            batches.add(docs.size());
+            return Set.of();
+        });
+        for (int i = 0; i < 1201; i++) {
+            bulk.add("doc" + i, new HashMap());
+        }
+        Assert.assertEquals(List.of(500, 500), batches);
+        bulk.flush();
+        Assert.assertEquals(List.of(500, 500, 201), batches);
+        Assert.assertEquals(1201, bulk.getIndexed());
+        Assert.assertEquals(0, bulk.getFailed());
+
+        // nothing left to send
+        bulk.flush();
+        Assert.assertEquals(3, batches.size());
+    }
+
+    @Test
+    public void batchFailureTest() {
+        final List<Integer> batches = new ArrayList<>();
+        final DocumentBulk bulk = new DocumentBulk(10, docs -> {
+            batches.add(docs.size());
+            if (batches.size() == 2) {
+                throw new IOException("connection reset");
+            } else if (batches.size() == 3) {
+                return Set.of("doc25");
+            }
+            return Set.of();
+        });
+        for (int i = 0; i < 35; i++) {
+            bulk.add("doc" + i, new HashMap());
+        }
+        bulk.flush();
+
+        // the failed batch does not stop the indexation
+        Assert.assertEquals(List.of(10, 10, 10, 5), batches);
+        Assert.assertEquals(24, bulk.getIndexed());
+        Assert.assertEquals(11, bulk.getFailed());
+    }
+
+    @Test
+    public void partialFailureTest() throws IOException {
+        final List<Map<String, Map>> sent = new ArrayList<>();
+        final Set<String> failed = ElasticSearchClient.indexDocs(docs(5), docs -> {
+            sent.add(new LinkedHashMap<>(docs));
+            final Map<String, BulkFailure> failures = new LinkedHashMap<>();
+            if (sent.size() == 1) {
+                failures.put("doc1", new BulkFailure(RestStatus.BAD_REQUEST, "mapper_parsing_exception"));
+                failures.put("doc2", new BulkFailure(RestStatus.TOO_MANY_REQUESTS, "es_rejected_execution_exception"));
+                failures.put("doc3", new BulkFailure(RestStatus.INTERNAL_SERVER_ERROR, "rejected_execution of coordinating operation"));
+            }
+            return failures;
+        }, 3, 0);
+
+        // only the rejected documents are sent again
+        Assert.assertEquals(Set.of("doc1"), failed);
+        Assert.assertEquals(2, sent.size());
+        Assert.assertEquals(5, sent.get(0).size());
+        Assert.assertEquals(Set.of("doc2", "doc3"), sent.get(1).keySet());
+    }
+
+    @Test
+    public void rejectedRetryTest() throws IOException {
+        final List<Integer> attempts = new ArrayList<>();
+        final Set<String> failed = ElasticSearchClient.indexDocs(docs(3), docs -> {
+            attempts.add(docs.size());
+            if (attempts.size() == 1) {
+                throw new ElasticsearchStatusException("rejected execution", RestStatus.TOO_MANY_REQUESTS);
+            }
+            final Map<String, BulkFailure> failures = new LinkedHashMap<>();
+            failures.put("doc0", new BulkFailure(RestStatus.TOO_MANY_REQUESTS, "es_rejected_execution_exception"));
+            return failures;
+        }, 3, 0);
+
+        // the whole request is sent again, then the rejected document until the attempts are exhausted
+        Assert.assertEquals(List.of(3, 3, 1), attempts);
+        Assert.assertEquals(Set.of("doc0"), failed);
+    }
+
+    @Test
+    public void requestFailureTest() {
+        final List<Integer> attempts = new ArrayList<>();
+        try {
+            ElasticSearchClient.indexDocs(docs(3), docs -> {
+                attempts.add(docs.size());
+                throw new IOException("connection refused");
+            }, 3, 0);
+            Assert.fail("the request failure should be reported");
+        } catch (IOException ex) {
+            // not a rejection, no retry
+            Assert.assertEquals(List.of(3), attempts);
+        }
+    }
+
+    private static Map<String, Map> docs(final int count) {
+        final Map<String, Map> docs = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            docs.put("doc" + i, new HashMap());
+        }
+        return docs;
+    }
+}
@@ -27,12 +27,10 @@ import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.util.BytesRef;
-import org.apache.sis.referencing.CRS;
 import org.apache.sis.referencing.CommonCRS;
 import org.geotoolkit.index.IndexingException;
 import org.geotoolkit.lucene.index.AbstractIndexer;
 import org.opengis.referencing.crs.CoordinateReferenceSystem;
-import org.opengis.util.FactoryException;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -176,12 +174,8 @@ public abstract class AbstractCSWIndexer<A> extends AbstractIndexer<A> implement
 
         //we add the geometry parts if its nor already indexed
         if (!alreadySpatiallyIndexed) {
-            try {
-                CoordinateReferenceSystem crs = CRS.forCode("EPSG:4326");
-                indexSpatialPart(doc, metadata, dcQueryable, crs);
-            } catch (FactoryException e) {
-                throw new IndexingException("Unable to decode EPSG:4326 CRS", e);
-            }
+            // EPSG:4326, without going through the authority factory for each record
+            indexSpatialPart(doc, metadata, dcQueryable, CommonCRS.WGS84.geographic());
         }
 
         // we add to the index the special queryable elements
@@ -39,7 +39,10 @@ import static org.constellation.api.CommonConstants.OBSERVATION_QNAME;
 import org.geotoolkit.observation.model.Offering;
 import org.geotoolkit.observation.model.ProcedureDataset;
 import org.constellation.dto.service.config.sos.SOSProviderCapabilities;
+import org.constellation.exception.ConstellationException;
 import org.constellation.exception.ConstellationStoreException;
+import org.constellation.provider.BatchedObservationStore;
+import org.constellation.provider.BatchedObservationStore.ObservationDatasetConsumer;
 import org.constellation.provider.IndexedNameDataProvider;
 import org.constellation.provider.Data;
 import org.constellation.provider.DataProviderFactory;
@@ -521,6 +524,20 @@ public class ObservationStoreProvider extends IndexedNameDataProvider<DataStore>
         }
     }
 
+    @Override
+    public void extractResults(Query query, int batchSize, ObservationDatasetConsumer consumer) throws ConstellationException {
+        final DataStore store = getMainStore();
+        if (store instanceof BatchedObservationStore bstore) {
+            try {
+                bstore.getDatasets(query, batchSize, consumer);
+            } catch (DataStoreException ex) {
+                throw new ConstellationStoreException(ex.getMessage(), ex);
+            }
+        } else {
+            consumer.accept(extractResults(query));
+        }
+    }
+
 
     @Override
     public synchronized void dispose() {
@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.logging.Level;
 import org.apache.sis.metadata.MetadataCopier;
 import org.apache.sis.metadata.MetadataStandard;
@@ -79,6 +80,25 @@ public class NetCDFMetadataReader extends DomMetadataReader {
 
     private Locale locale = null;
 
+    /**
+     * Maximum number of identifiers kept in {@link #pathIndex}.
+     */
+    private static final int PATH_INDEX_SIZE = 10000;
+
+    /**
+     * Index of the already resolved identifiers, to avoid exploring the data directory on each request.
+     * The modification time of the file allows to detect when the cached metadata is outdated.
+     * The least recently used identifiers are removed when the index is full.
+     */
+    private final Map<String, IndexedFile> pathIndex = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, IndexedFile> eldest) {
+            return size() > PATH_INDEX_SIZE;
+        }
+    });
+
+    private record IndexedFile(Path file, FileTime lastModified) {}
+
     /**
      * Build a new CSW NetCDF File Reader.
      *
@@ -140,12 +160,13 @@ public class NetCDFMetadataReader extends DomMetadataReader {
      */
     @Override
     public RecordInfo getMetadata(String identifier, MetadataType mode, ElementSetType type, List<QName> elementName) throws MetadataIoException {
+        final Path metadataFile = resolveFile(identifier);
         Object obj = null;
-        if (isCacheEnabled()) {
+        if (isCacheEnabled() && metadataFile != null) {
             obj = getFromCache(identifier);
         }
         if (obj == null) {
-            obj = getObjectFromFile(identifier);
+            obj = getObjectFromFile(identifier, metadataFile);
         }
         MetadataType metadataMode;
 
@@ -169,13 +190,50 @@ public class NetCDFMetadataReader extends DomMetadataReader {
 
     @Override
     public boolean existMetadata(final String identifier) throws MetadataIoException {
+        return resolveFile(identifier) != null;
+    }
+
+    /**
+     * Find the file of the specified metadata, looking first in the index of the already resolved identifiers.
+     * If the file has been modified, moved or deleted since it was indexed, the cached metadata is removed.
+     *
+     * @param identifier The metadata identifier.
+     * @return The metadata file, or {@code null} if it does not exist.
+     */
+    private Path resolveFile(final String identifier) {
+        final IndexedFile indexed = pathIndex.get(identifier);
+        if (indexed != null && indexed.lastModified().equals(getLastModifiedTime(indexed.file()))) {
+            return indexed.file();
+        }
+        // not indexed or outdated, the cached metadata (if any) can not be trusted
+        removeFromCache(identifier);
+
         final Path metadataFile;
         if (usePathAsIdentifier) {
             metadataFile = getFileFromPathIdentifier(identifier, dataDirectory, CURRENT_EXT);
         } else {
             metadataFile = getFileFromIdentifier(identifier, dataDirectory, CURRENT_EXT);
         }
-        return metadataFile != null && Files.exists(metadataFile);
+        if (metadataFile != null) {
+            final FileTime lastModified = getLastModifiedTime(metadataFile);
+            if (lastModified != null) {
+                pathIndex.put(identifier, new IndexedFile(metadataFile, lastModified));
+                return metadataFile;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The modification time of the file, or {@code null} if it does not exist anymore or can not be read.
+     */
+    private static FileTime getLastModifiedTime(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException ex) {
+            LOGGER.log(Level.FINER, "Unable to read the modification time of " + file, ex);
+            return null;
+        }
     }
 
     /**
@@ -269,17 +327,11 @@ public class NetCDFMetadataReader extends DomMetadataReader {
      * If the file is not present or if it is impossible to unmarshall it it return an exception.
      *
      * @param identifier the metadata identifier
+     * @param metadataFile the metadata file, or {@code null} if it has not been found.
      * @return A unmarshalled metadata object.
      */
-    private Object getObjectFromFile(final String identifier) throws MetadataIoException {
-        final Path metadataFile;
-        if (usePathAsIdentifier) {
-            metadataFile = getFileFromPathIdentifier(identifier, dataDirectory, CURRENT_EXT);
-        } else {
-            metadataFile = getFileFromIdentifier(identifier, dataDirectory, CURRENT_EXT);
-        }
-        if (metadataFile != null && Files.exists(metadataFile)) {
-
+    private Object getObjectFromFile(final String identifier, final Path metadataFile) throws MetadataIoException {
+        if (metadataFile != null) {
             final DataStoreProvider factory = DataStores.getProviderById("NetCDF");
             LOGGER.log(Level.INFO, "Metadata Factory choosed:{0}", factory.getClass().getName());
             final StorageConnector sc = new StorageConnector(metadataFile);
@@ -292,6 +344,9 @@ public class NetCDFMetadataReader extends DomMetadataReader {
                 } else {
                     Utils.setIdentifier(identifier, obj);
                 }
+                if (isCacheEnabled()) {
+                    addInCache(identifier, obj);
+                }
                 return obj;
 
             } catch (DataStoreException | IllegalArgumentException ex) {
@@ -312,7 +367,25 @@ public class NetCDFMetadataReader extends DomMetadataReader {
      */
     @Override
     public void destroy() {
+        clearCache();
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeFromCache(final String identifier) {
+        super.removeFromCache(identifier);
+        pathIndex.remove(identifier);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        pathIndex.clear();
     }
 
     /**
@@ -36,6 +36,7 @@ import org.geotoolkit.csw.xml.DomainValues;
 import org.geotoolkit.csw.xml.v202.RecordType;
 import org.geotoolkit.ebrim.xml.EBRIMMarshallerPool;
 import org.geotoolkit.lang.Setup;
+import org.geotoolkit.metadata.MetadataIoException;
 import org.geotoolkit.metadata.MetadataType;
 import org.geotoolkit.metadata.RecordInfo;
 import org.geotoolkit.storage.DataStores;
@@ -55,10 +56,12 @@ public class NetCDFMetadataStoreTest {
 
     private static NetCDFMetadataStore fsStore1;
 
+    private static Path dataDir;
+
     @BeforeClass
     public static void setUpClass() throws Exception {
         final FileSystem fs = Jimfs.newFileSystem("netcdf-md-test", Configuration.unix());
-        final Path dataDir = fs.getPath("/").resolve("test");
+        dataDir = fs.getPath("/").resolve("test");
         Files.createDirectories(dataDir);
         try (InputStream dataStream = NetCDFMetadataStore.class.getResourceAsStream("/org/constellation/netcdf/2005092200_sst_21-24.en.nc")) {
             Files.copy(dataStream, dataDir.resolve("2005092200_sst_21-24.en.nc"));
@@ -124,6 +127,26 @@ public class NetCDFMetadataStoreTest {
 
     }
 
+    @Test
+    public void deletedFileTest() throws Exception {
+        final Path file = dataDir.resolve("deleted.nc");
+        Files.copy(dataDir.resolve("2005092200_sst_21-24.en.nc"), file);
+
+        RecordInfo result = fsStore1.getMetadata("deleted", MetadataType.ISO_19115);
+        assertNotNull(result);
+        Assert.assertTrue(fsStore1.getReader().existMetadata("deleted"));
+
+        // the indexed path and the cached metadata must not be used anymore
+        Files.delete(file);
+        Assert.assertFalse(fsStore1.getReader().existMetadata("deleted"));
+        try {
+            fsStore1.getMetadata("deleted", MetadataType.ISO_19115);
+            Assert.fail("the metadata of a deleted file should not be returned");
+        } catch (MetadataIoException ex) {
+            // expected
+        }
+    }
+
     @AfterClass
     public static void tearDownClass() {
         try {
@@ -0,0 +1,47 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.provider;
+
+import org.apache.sis.storage.DataStoreException;
+import org.apache.sis.storage.Query;
+import org.constellation.exception.ConstellationException;
+import org.geotoolkit.observation.model.ObservationDataset;
+
+/**
+ * An observation store able to extract its observations by datasets of bounded size,
+ * reading its source only once.
+ */
+public interface BatchedObservationStore {
+
+    /**
+     * Extract the observations matching the query, and pass them to the consumer by datasets
+     * holding at most {@code batchSize} result values each.
+     *
+     * @param query A dataset query, or {@code null} for all the observations.
+     * @param batchSize Maximum number of result values in a dataset, or 0 to produce a single dataset.
+     * @param consumer Receive each dataset as soon as it is complete.
+     */
+    void getDatasets(Query query, int batchSize, ObservationDatasetConsumer consumer) throws DataStoreException, ConstellationException;
+
+    @FunctionalInterface
+    interface ObservationDatasetConsumer {
+
+        void accept(ObservationDataset dataset) throws ConstellationException;
+    }
+}
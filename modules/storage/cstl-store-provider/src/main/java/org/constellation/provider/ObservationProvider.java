@@ -29,6 +29,7 @@ import org.geotoolkit.observation.model.Offering;
 import org.geotoolkit.observation.model.ProcedureDataset;
 import org.constellation.dto.service.config.sos.SOSProviderCapabilities;
 import org.constellation.dto.service.config.sos.SensorMLTree;
+import org.constellation.exception.ConstellationException;
 import org.constellation.exception.ConstellationStoreException;
 import org.locationtech.jts.geom.Geometry;
 import org.geotoolkit.observation.model.Observation;
@@ -101,6 +102,17 @@ public interface ObservationProvider extends DataProvider {
 
     ObservationDataset extractResults(Query query) throws ConstellationStoreException;
 
+    /**
+     * Extract the observations matching the query by datasets holding at most {@code batchSize} result values,
+     * passing each of them to the consumer as soon as it is complete.
+     * If the underlying store is not a {@link BatchedObservationStore}, a single dataset is produced.
+     *
+     * @param query A dataset query.
+     * @param batchSize Maximum number of result values in a dataset, or 0 to produce a single dataset.
+     * @param consumer Receive the extracted datasets.
+     */
+    void extractResults(Query query, int batchSize, BatchedObservationStore.ObservationDatasetConsumer consumer) throws ConstellationException;
+
     List<String> removeDataset(ObservationDataset dataset) throws ConstellationStoreException;
 
     /**
@@ -0,0 +1,64 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import org.constellation.business.IDatasourceBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.test.utils.TestDirectoryInit;
+import org.constellation.test.utils.TestEnvironment.TestResources;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+
+/**
+ * Spring context shared by the service benchmarks: the same one as the unit tests
+ * (in memory configuration database, test data directory), started outside of the JUnit runner.
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+    private final ClassPathXmlApplicationContext context;
+
+    final TestResources testResources;
+
+    BenchmarkContext(final String name) throws Exception {
+        context = new ClassPathXmlApplicationContext(new String[] {"classpath:/cstl/spring/test-context.xml"}, false);
+        new TestDirectoryInit(name).initialize(context);
+        context.refresh();
+        testResources = context.getBean(name + ".resources", TestResources.class);
+
+        // start from an empty configuration
+        getBean(IServiceBusiness.class).deleteAll();
+        getBean(IProviderBusiness.class).removeAll();
+        getBean(IDatasourceBusiness.class).deleteAll();
+    }
+
+    <T> T getBean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            getBean(IServiceBusiness.class).deleteAll();
+            getBean(IProviderBusiness.class).removeAll();
+            getBean(IDatasourceBusiness.class).deleteAll();
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+package com.examind.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import static org.constellation.api.CommonConstants.TRANSACTION_SECURIZED;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.dto.service.config.generic.Automatic;
+import org.constellation.metadata.core.CSWworker;
+import org.constellation.provider.DataProviders;
+import org.constellation.store.metadata.filesystem.FileSystemMetadataStore;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import static org.constellation.test.utils.TestResourceUtils.writeResourceDataFile;
+import org.constellation.ws.MimeType;
+import org.geotoolkit.csw.xml.ElementSetType;
+import org.geotoolkit.csw.xml.ResultType;
+import org.geotoolkit.csw.xml.v202.ElementSetNameType;
+import org.geotoolkit.csw.xml.v202.GetRecordsType;
+import org.geotoolkit.csw.xml.v202.QueryConstraintType;
+import org.geotoolkit.csw.xml.v202.QueryType;
+import static org.geotoolkit.metadata.TypeNames.RECORD_202_QNAME;
+import org.geotoolkit.nio.IOUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CSW GetRecords on a filesystem metadata store indexed with lucene: CQL parsing, lucene query,
+ * metadata read and transformation in Dublin Core records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CSWGetRecordsBenchmark {
+
+    /**
+     * Test records and their file name in the store, which must be the record identifier.
+     */
+    private static final String[][] RECORDS = {
+        {"meta1.xml",         "42292_5p_19900609195600.xml"},
+        {"meta2.xml",         "42292_9s_19900610041000.xml"},
+        {"meta3.xml",         "39727_22_19750113062500.xml"},
+        {"meta4.xml",         "11325_158_19640418141800.xml"},
+        {"meta5.xml",         "40510_145_19930221211500.xml"},
+        {"meta7.xml",         "MDWeb_FR_SY_couche_vecteur_258.xml"},
+        {"meta13.xml",        "urn:uuid:1ef30a8b-876d-4828-9246-dcbbyyiioo.xml"},
+        {"imageMetadata.xml", "gov.noaa.nodc.ncddc. MODXXYYYYJJJ.L3_Mosaic_NOAA_GMX or MODXXYYYYJJJHHMMSS.L3_NOAA_GMX.xml"},
+        {"meta-19119.xml",    "mdweb_2_catalog_CSW Data Catalog_profile_inspire_core_service_4.xml"}
+    };
+
+    /**
+     * CQL constraint of the request: a text property, a spatial and a full text filter.
+     */
+    @Param({"Title LIKE '90008411%'", "BBOX(ows:BoundingBox, -180, -90, 180, 90)", "AnyText LIKE '%sea%'"})
+    public String constraint;
+
+    /**
+     * HITS only counts the matching records, RESULTS also reads and returns them.
+     */
+    @Param({"HITS", "RESULTS"})
+    public ResultType resultType;
+
+    private BenchmarkContext context;
+    private Path dataDirectory;
+    private FileSystemMetadataStore store;
+    private CSWworker worker;
+    private GetRecordsType request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("csw-records-benchmark");
+        dataDirectory = Files.createTempDirectory("csw-records");
+        for (String[] record : RECORDS) {
+            writeResourceDataFile(dataDirectory, "org/constellation/xml/metadata/" + record[0], record[1]);
+        }
+        final Integer pid = context.testResources.createProviderWithPath(TestResource.METADATA_FILE, dataDirectory, context.getBean(IProviderBusiness.class), null).id;
+        store = (FileSystemMetadataStore) DataProviders.getProvider(pid).getMainStore();
+
+        final Automatic configuration = new Automatic();
+        configuration.putParameter(TRANSACTION_SECURIZED, "false");
+        final IServiceBusiness serviceBusiness = context.getBean(IServiceBusiness.class);
+        final Integer sid = serviceBusiness.create("csw", "default", configuration, null, null);
+        serviceBusiness.linkCSWAndProvider(sid, pid, true);
+
+        // the lucene index is built when the worker starts
+        worker = new CSWworker("default");
+
+        final QueryType query = new QueryType(Collections.singletonList(RECORD_202_QNAME), new ElementSetNameType(ElementSetType.FULL), null,
+                new QueryConstraintType(constraint, "1.0.0"));
+        request = new GetRecordsType("CSW", "2.0.2", resultType, null, MimeType.APPLICATION_XML, "http://www.opengis.net/cat/csw/2.0.2", 1, 10, query, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try {
+            if (worker != null) {
+                worker.destroy();
+            }
+            if (store != null) {
+                store.destroyFileIndex();
+            }
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            if (dataDirectory != null) {
+                IOUtilities.deleteSilently(dataDirectory);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object getRecords() throws Exception {
+        return worker.getRecords(request);
+    }
+}
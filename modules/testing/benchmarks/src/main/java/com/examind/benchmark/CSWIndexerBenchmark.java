@@ -0,0 +1,124 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.Unmarshaller;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.constellation.metadata.index.generic.GenericIndexer;
+import org.constellation.util.Util;
+import org.geotoolkit.csw.xml.CSWMarshallerPool;
+import org.geotoolkit.index.tree.manager.SQLRtreeManager;
+import org.geotoolkit.nio.IOUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of a CSW lucene index (metadata fields extraction, lucene documents and spatial R-tree)
+ * from the metadata records of the test data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CSWIndexerBenchmark {
+
+    private static final String[] RECORDS = {"meta1.xml", "meta2.xml", "meta3.xml", "meta4.xml", "meta5.xml",
+                                             "meta6.xml", "meta7.xml", "meta8.xml", "imageMetadata.xml", "metaNan.xml"};
+
+    /**
+     * Number of times the test records are indexed.
+     */
+    @Param({"1", "50"})
+    public int copies;
+
+    private BenchmarkContext context;
+    private List<Object> toIndex;
+    private Path indexDirectory;
+    private GenericIndexer indexer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // the spatial index is stored in the test context database
+        context = new BenchmarkContext("csw-benchmark");
+
+        final List<Object> records = new ArrayList<>();
+        final Unmarshaller unmarshaller = CSWMarshallerPool.getInstance().acquireUnmarshaller();
+        try {
+            for (String record : RECORDS) {
+                Object obj = unmarshaller.unmarshal(Util.getResourceAsStream("org/constellation/xml/metadata/" + record));
+                if (obj instanceof JAXBElement<?> jb) {
+                    obj = jb.getValue();
+                }
+                records.add(obj);
+            }
+        } finally {
+            CSWMarshallerPool.getInstance().recycle(unmarshaller);
+        }
+        toIndex = new ArrayList<>();
+        for (int i = 0; i < copies; i++) {
+            toIndex.addAll(records);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createDirectory() throws Exception {
+        indexDirectory = Files.createTempDirectory("csw-index");
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeIndex() throws Exception {
+        if (indexer != null) {
+            indexer.destroy();
+            SQLRtreeManager.removeTree(indexer.getFileDirectory());
+            indexer = null;
+        }
+        IOUtilities.deleteSilently(indexDirectory);
+    }
+
+    @Benchmark
+    public GenericIndexer createIndex() throws Exception {
+        indexer = new GenericIndexer(toIndex, null, indexDirectory, "", true);
+        return indexer;
+    }
+}
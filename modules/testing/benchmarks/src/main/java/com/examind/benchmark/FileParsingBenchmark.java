@@ -0,0 +1,92 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import com.examind.store.observation.FileParsingUtils;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-line parsing work of the file observation stores (CSV, DBF, ...) used by the SOS harvester.
+ * Lines are generated in memory, so the benchmark measures parsing only, not I/O.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileParsingBenchmark {
+
+    private static final int NB_LINES = 10_000;
+
+    private Object[][] lines;
+    private String[] procedures;
+    private SimpleDateFormat sdf;
+    private List<Integer> dateIndexes;
+
+    @Setup
+    public void setup() {
+        sdf = new SimpleDateFormat("yyyy-MM-ddHH:mm:ss");
+        dateIndexes = Arrays.asList(0, 1);
+        lines = new Object[NB_LINES][];
+        procedures = new String[NB_LINES];
+        for (int i = 0; i < NB_LINES; i++) {
+            final int day = 1 + i % 28;
+            final int hour = i % 24;
+            lines[i] = new Object[] {String.format("2000-07-%02d", day), String.format("%02d:30:00", hour), Double.toString(i * 0.5)};
+            procedures[i] = "p" + (i % 50) + "/sub-" + i;
+        }
+    }
+
+    /**
+     * Composite date (two columns) parsing, as done for each line of a file.
+     */
+    @Benchmark
+    public void parseCompositeDate(Blackhole bh) {
+        for (int i = 0; i < NB_LINES; i++) {
+            final Optional<Long> date = FileParsingUtils.parseDate(lines[i], null, dateIndexes, sdf, i);
+            bh.consume(date);
+        }
+    }
+
+    /**
+     * Procedure identifier extraction with a regular expression, as done for each line of a file.
+     */
+    @Benchmark
+    public void extractProcedureWithRegex(Blackhole bh) {
+        for (int i = 0; i < NB_LINES; i++) {
+            bh.consume(FileParsingUtils.extractWithRegex("(^[^/]*)", procedures[i]));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+package com.examind.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.constellation.business.IDatasourceBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.provider.DataProviders;
+import org.constellation.provider.ObservationProvider;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.geotoolkit.filter.FilterUtilities;
+import org.geotoolkit.observation.OMUtils;
+import org.geotoolkit.observation.model.Observation;
+import org.geotoolkit.observation.query.ResultQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opengis.filter.FilterFactory;
+
+/**
+ * Result extraction of a time series in an OM2 database, with the result processor of the store mode:
+ * {@code ResultProcessor} without decimation, {@code DefaultResultDecimator} in default mode and
+ * {@code MixedResultDecimator} in mixed mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OM2DecimationBenchmark {
+
+    /**
+     * Number of measures of the extracted time series.
+     */
+    private static final int NB_VALUES = 100_000;
+
+    /**
+     * Embedded database and mode of the OM2 store.
+     */
+    @Param({"derby", "duckdb", "derby-mixed", "duckdb-mixed"})
+    public String database;
+
+    /**
+     * Number of requested values, 0 for the full result without decimation.
+     */
+    @Param({"0", "100", "1000"})
+    public int decimationSize;
+
+    private BenchmarkContext context;
+    private ObservationProvider provider;
+    private ResultQuery query;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("om2-decimation-benchmark");
+        final IProviderBusiness providerBusiness = context.getBean(IProviderBusiness.class);
+        final IDatasourceBusiness datasourceBusiness = context.getBean(IDatasourceBusiness.class);
+
+        // the mixed test databases come with data, the default mode ones are filled from the derby test database
+        final Observation template;
+        switch (database) {
+            case "derby-mixed", "duckdb-mixed" -> {
+                final TestResource target = "duckdb-mixed".equals(database) ? TestResource.OM2_DB_DUCK_MIXED : TestResource.OM2_DB_MIXED;
+                provider = getProvider(target, providerBusiness, datasourceBusiness);
+                template = ObservationSamples.readTemplate(provider);
+            }
+            default -> {
+                template = ObservationSamples.readTemplate(getProvider(TestResource.OM2_DB, providerBusiness, datasourceBusiness));
+                final TestResource target = "duckdb".equals(database) ? TestResource.OM2_DB_DUCK : TestResource.OM2_DB_NO_DATA;
+                provider = getProvider(target, providerBusiness, datasourceBusiness);
+            }
+        }
+        provider.writeObservation(ObservationSamples.timeSeries(template, "urn:ogc:object:observation:GEOM:benchmark", ObservationSamples.START, NB_VALUES));
+
+        // only extract the generated series
+        final FilterFactory ff = FilterUtilities.FF;
+        final Date begin = new Date(ObservationSamples.START);
+        final Date end = new Date(ObservationSamples.START + NB_VALUES * ObservationSamples.STEP);
+        query = new ResultQuery(null, null, ObservationSamples.SENSOR_ID, "csv");
+        query.setSelection(ff.during(ff.property("phenomenonTime"), ff.literal(OMUtils.buildTime("benchmark-time", begin, end))));
+        if (decimationSize > 0) {
+            query.setDecimationSize(decimationSize);
+        }
+    }
+
+    private ObservationProvider getProvider(TestResource tr, IProviderBusiness providerBusiness, IDatasourceBusiness datasourceBusiness) throws Exception {
+        final Integer pid = context.testResources.createProviderWithDatasource(tr, providerBusiness, datasourceBusiness, null).id;
+        return (ObservationProvider) DataProviders.getProvider(pid);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Object getResults() throws Exception {
+        return provider.getResults(query);
+    }
+}
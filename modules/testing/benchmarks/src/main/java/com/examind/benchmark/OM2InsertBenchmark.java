@@ -0,0 +1,105 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+package com.examind.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.constellation.business.IDatasourceBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.provider.DataProviders;
+import org.constellation.provider.ObservationProvider;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.geotoolkit.observation.model.Observation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insertion of a time series observation in an OM2 database: observation and offering update,
+ * then measure insertion by the SQL inserter.
+ * Each invocation writes a new observation following the previous one, so only new measures are inserted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OM2InsertBenchmark {
+
+    /**
+     * Embedded database of the OM2 store.
+     */
+    @Param({"derby", "duckdb"})
+    public String database;
+
+    /**
+     * Number of measures of each inserted observation.
+     */
+    @Param({"1000", "10000"})
+    public int nbValues;
+
+    private BenchmarkContext context;
+    private ObservationProvider provider;
+    private Observation template;
+    private Observation observation;
+    private int count;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("om2-insert-benchmark");
+        final IProviderBusiness providerBusiness = context.getBean(IProviderBusiness.class);
+        final IDatasourceBusiness datasourceBusiness = context.getBean(IDatasourceBusiness.class);
+
+        final Integer sourceId = context.testResources.createProviderWithDatasource(TestResource.OM2_DB, providerBusiness, datasourceBusiness, null).id;
+        template = ObservationSamples.readTemplate((ObservationProvider) DataProviders.getProvider(sourceId));
+
+        final TestResource target = "duckdb".equals(database) ? TestResource.OM2_DB_DUCK : TestResource.OM2_DB_NO_DATA;
+        final Integer pid = context.testResources.createProviderWithDatasource(target, providerBusiness, datasourceBusiness, null).id;
+        provider = (ObservationProvider) DataProviders.getProvider(pid);
+        count = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void nextObservation() {
+        observation = ObservationSamples.timeSeries(template, "urn:ogc:object:observation:GEOM:benchmark-" + count,
+                ObservationSamples.START + (long) count * nbValues * ObservationSamples.STEP, nbValues);
+        count++;
+    }
+
+    @Benchmark
+    public String insert() throws Exception {
+        return provider.writeObservation(observation);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+package com.examind.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import static org.constellation.api.CommonConstants.COMPLEX_OBSERVATION;
+import static org.constellation.api.CommonConstants.OBSERVATION_QNAME;
+import org.constellation.exception.ConstellationStoreException;
+import org.constellation.provider.ObservationProvider;
+import org.geotoolkit.filter.FilterUtilities;
+import org.geotoolkit.observation.OMUtils;
+import org.geotoolkit.observation.model.ComplexResult;
+import org.geotoolkit.observation.model.Field;
+import org.geotoolkit.observation.model.Observation;
+import static org.geotoolkit.observation.model.ResponseMode.INLINE;
+import org.geotoolkit.observation.query.ObservationQuery;
+import org.opengis.filter.FilterFactory;
+import org.opengis.temporal.TemporalPrimitive;
+
+/**
+ * Generated time series for the OM2 benchmarks. The procedure, feature of interest and phenomenon
+ * are the ones of a time series sensor of the OM2 test database, only the values are generated.
+ */
+final class ObservationSamples {
+
+    /**
+     * Time series sensor of the OM2 test database, with a time, a depth and a temperature field.
+     */
+    static final String SENSOR_ID = "urn:ogc:object:sensor:GEOM:8";
+
+    /**
+     * Start of the generated series, after all the observations of the test database.
+     */
+    static final long START = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+
+    /**
+     * Interval between two generated measures.
+     */
+    static final long STEP = 60_000L;
+
+    private static final FilterFactory FF = FilterUtilities.FF;
+
+    private ObservationSamples() {}
+
+    /**
+     * Read an observation of {@link #SENSOR_ID} in a provider built on the OM2 test database.
+     */
+    static Observation readTemplate(final ObservationProvider provider) throws ConstellationStoreException {
+        final ObservationQuery query = new ObservationQuery(OBSERVATION_QNAME, INLINE, null);
+        query.setSelection(FF.equal(FF.property("procedure"), FF.literal(SENSOR_ID)));
+        final List<Observation> observations = provider.getObservations(query);
+        if (observations.isEmpty()) {
+            throw new IllegalStateException("No observation found for " + SENSOR_ID);
+        }
+        return observations.get(0);
+    }
+
+    /**
+     * Build a time series observation of the template sensor, with one measure every {@link #STEP} from the start date.
+     *
+     * @param template Observation giving the sensor, the feature of interest and the fields.
+     * @param name Name of the new observation.
+     * @param start Date of the first measure, in milliseconds.
+     * @param nbValues Number of measures.
+     */
+    static Observation timeSeries(final Observation template, final String name, final long start, final int nbValues) {
+        final List<Field> fields = ((ComplexResult) template.getResult()).getFields();
+        final List<Object> values = new ArrayList<>(nbValues);
+        for (int i = 0; i < nbValues; i++) {
+            final List<Object> line = new ArrayList<>(fields.size());
+            line.add(new Date(start + i * STEP));
+            for (int j = 1; j < fields.size(); j++) {
+                line.add(10.0 * j + (i % 500) * 0.01);
+            }
+            values.add(line);
+        }
+        final TemporalPrimitive time = OMUtils.buildTime(name + "-time", new Date(start), new Date(start + (nbValues - 1) * STEP));
+        return new Observation(name,
+                               name,
+                               null, null,
+                               COMPLEX_OBSERVATION,
+                               template.getProcedure(),
+                               time,
+                               template.getFeatureOfInterest(),
+                               template.getObservedProperty(),
+                               null,
+                               new ComplexResult(fields, values, nbValues),
+                               new HashMap<>(),
+                               null);
+    }
+}
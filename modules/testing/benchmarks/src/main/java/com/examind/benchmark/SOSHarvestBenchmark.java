@@ -0,0 +1,146 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import com.examind.process.sos.SosHarvesterProcessDescriptor;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import static org.constellation.api.CommonConstants.TRANSACTION_SECURIZED;
+import org.constellation.business.IDatasourceBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.dto.process.ServiceProcessReference;
+import org.constellation.dto.service.config.sos.SOSConfiguration;
+import org.constellation.process.ExamindProcessFactory;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.geotoolkit.nio.IOUtilities;
+import org.geotoolkit.process.ProcessDescriptor;
+import org.geotoolkit.process.ProcessFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opengis.parameter.ParameterValue;
+import org.opengis.parameter.ParameterValueGroup;
+
+/**
+ * Full SOS harvest of a time series CSV file: file parsing, sensor and observation insertion in the OM2 database.
+ * Each harvest removes the observations inserted by the previous one, so the database size stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SOSHarvestBenchmark {
+
+    private static final String DATE_COLUMN = "DATE";
+
+    /**
+     * Number of lines of the harvested file.
+     */
+    @Param({"1000", "10000"})
+    public int nbLines;
+
+    private BenchmarkContext context;
+    private Path dataDirectory;
+    private ParameterValueGroup input;
+    private ProcessDescriptor desc;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("sos-benchmark");
+        final Integer pid = context.testResources.createProviderWithDatasource(TestResource.OM2_DB, context.getBean(IProviderBusiness.class),
+                context.getBean(IDatasourceBusiness.class), null).id;
+
+        final SOSConfiguration configuration = new SOSConfiguration();
+        configuration.getParameters().put(TRANSACTION_SECURIZED, "false");
+        final IServiceBusiness serviceBusiness = context.getBean(IServiceBusiness.class);
+        final Integer sid = serviceBusiness.create("sos", "default", configuration, null, null);
+        serviceBusiness.linkServiceAndSensorProvider(sid, pid, true);
+        serviceBusiness.start(sid);
+
+        dataDirectory = Files.createTempDirectory("sos-harvest");
+        writeTimeSeries(dataDirectory.resolve("time-series.csv"), nbLines);
+
+        desc = ProcessFinder.getProcessDescriptor(ExamindProcessFactory.NAME, SosHarvesterProcessDescriptor.NAME);
+        input = desc.getInputDescriptor().createValue();
+        input.parameter(SosHarvesterProcessDescriptor.DATASET_IDENTIFIER_NAME).setValue("SOS_BENCHMARK");
+        input.parameter(SosHarvesterProcessDescriptor.DATA_FOLDER_NAME).setValue(dataDirectory.toUri().toString());
+        input.parameter(SosHarvesterProcessDescriptor.DATE_COLUMN_NAME).setValue(DATE_COLUMN);
+        input.parameter(SosHarvesterProcessDescriptor.MAIN_COLUMN_NAME).setValue(DATE_COLUMN);
+        input.parameter(SosHarvesterProcessDescriptor.DATE_FORMAT_NAME).setValue("yyyy-MM-dd'T'HH:mm:ss'Z'");
+        input.parameter(SosHarvesterProcessDescriptor.LATITUDE_COLUMN_NAME).setValue("LATITUDE");
+        input.parameter(SosHarvesterProcessDescriptor.LONGITUDE_COLUMN_NAME).setValue("LONGITUDE");
+        for (String column : new String[] {"TEMP", "PSAL"}) {
+            final ParameterValue val = (ParameterValue) desc.getInputDescriptor().descriptor(SosHarvesterProcessDescriptor.OBS_PROP_COLUMN_NAME).createValue();
+            val.setValue(column);
+            input.values().add(val);
+        }
+        input.parameter(SosHarvesterProcessDescriptor.OBS_TYPE_NAME).setValue("Timeserie");
+        input.parameter(SosHarvesterProcessDescriptor.THING_ID_NAME).setValue("urn:sensor:benchmark");
+        input.parameter(SosHarvesterProcessDescriptor.REMOVE_PREVIOUS_NAME).setValue(true);
+        input.parameter(SosHarvesterProcessDescriptor.SERVICE_ID_NAME).setValue(new ServiceProcessReference(serviceBusiness.getServiceByIdentifierAndType("sos", "default")));
+    }
+
+    private static void writeTimeSeries(final Path file, final int nbLines) throws Exception {
+        Instant date = Instant.parse("2020-01-01T00:00:00Z");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(DATE_COLUMN + ",LATITUDE,LONGITUDE,TEMP,PSAL");
+            writer.newLine();
+            for (int i = 0; i < nbLines; i++) {
+                writer.write(date + ",48.2903,-4.9683," + (12 + (i % 50) * 0.1) + ',' + (35 + (i % 20) * 0.05));
+                writer.newLine();
+                date = date.plus(10, ChronoUnit.MINUTES);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            if (dataDirectory != null) {
+                IOUtilities.deleteSilently(dataDirectory);
+            }
+        }
+    }
+
+    @Benchmark
+    public ParameterValueGroup harvest() throws Exception {
+        return desc.createProcess(input.clone()).call();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import com.examind.sts.core.DefaultSTSWorker;
+import java.util.concurrent.TimeUnit;
+import static org.constellation.api.CommonConstants.TRANSACTIONAL;
+import static org.constellation.api.CommonConstants.TRANSACTION_SECURIZED;
+import org.constellation.business.IDatasourceBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.ISensorBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.dto.Sensor;
+import org.constellation.dto.service.config.sos.SOSConfiguration;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.geotoolkit.sts.GetDatastreams;
+import org.geotoolkit.sts.GetThings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * STS collection requests with {@code $count} and {@code $expand} on the OM2 test database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class STSCountExpandBenchmark {
+
+    /**
+     * Lifetime of the worker count cache in milliseconds, 0 to measure the uncached counts.
+     */
+    @Param({"0", "60000"})
+    public String countCacheDuration;
+
+    @Param({"10"})
+    public int top;
+
+    private BenchmarkContext context;
+    private DefaultSTSWorker worker;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("sts-benchmark");
+        final IProviderBusiness providerBusiness = context.getBean(IProviderBusiness.class);
+        final ISensorBusiness sensorBusiness = context.getBean(ISensorBusiness.class);
+        final IServiceBusiness serviceBusiness = context.getBean(IServiceBusiness.class);
+
+        final Integer omPid  = context.testResources.createProviderWithDatasource(TestResource.OM2_DB, providerBusiness, context.getBean(IDatasourceBusiness.class), null).id;
+        final Integer smlPid = context.testResources.createProvider(TestResource.SENSOR_INTERNAL, providerBusiness, null).id;
+        context.testResources.generateSensors(sensorBusiness, omPid, smlPid);
+
+        final SOSConfiguration configuration = new SOSConfiguration();
+        configuration.setProfile(TRANSACTIONAL);
+        configuration.getParameters().put(TRANSACTION_SECURIZED, "false");
+        configuration.getParameters().put("countCacheDuration", countCacheDuration);
+
+        final Integer sid = serviceBusiness.create("sts", "default", configuration, null, null);
+        serviceBusiness.linkServiceAndSensorProvider(sid, omPid, true);
+        serviceBusiness.linkServiceAndSensorProvider(sid, smlPid, true);
+        for (Sensor sensor : sensorBusiness.getByProviderId(smlPid)) {
+            sensorBusiness.addSensorToService(sid, sensor.getId());
+        }
+        worker = new DefaultSTSWorker("default");
+        worker.setServiceUrl("http://localhost/examind/");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (worker != null) {
+            worker.destroy();
+        }
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * A page of things with their datastreams expanded, and the total count.
+     */
+    @Benchmark
+    public Object thingsCountExpand() throws Exception {
+        final GetThings request = new GetThings();
+        request.getExpand().add("Datastreams");
+        request.setCount(true);
+        request.setTop(top);
+        return worker.getThings(request);
+    }
+
+    /**
+     * A page of datastreams with their observed property and sensor expanded, and the total count.
+     */
+    @Benchmark
+    public Object datastreamsCountExpand() throws Exception {
+        final GetDatastreams request = new GetDatastreams();
+        request.getExpand().add("ObservedProperties");
+        request.getExpand().add("Sensors");
+        request.setCount(true);
+        request.setTop(top);
+        return worker.getDatastreams(request);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.constellation.services.component.TokenService;
+import org.constellation.token.TokenUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request authentication overhead on secured services: access token validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+
+    private TokenService tokenService;
+    private String token;
+    private String signedToken;
+
+    @Setup
+    public void setup() {
+        tokenService = new TokenService();
+        tokenService.init();
+        token = tokenService.createToken("admin");
+        signedToken = TokenUtils.createToken("admin", SECRET);
+    }
+
+    /**
+     * Full signature check, done on each request before the validated tokens cache.
+     */
+    @Benchmark
+    public boolean validateSignature() {
+        return TokenUtils.validateToken(signedToken, SECRET);
+    }
+
+    /**
+     * Validation through the token service, hitting the validated tokens cache.
+     */
+    @Benchmark
+    public boolean validateWithService() {
+        return tokenService.validate(token);
+    }
+}
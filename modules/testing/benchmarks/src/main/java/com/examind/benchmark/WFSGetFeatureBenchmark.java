@@ -0,0 +1,120 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.namespace.QName;
+import org.constellation.business.ILayerBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.dto.service.config.wxs.LayerContext;
+import org.constellation.test.utils.TestEnvironment.DataImport;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.constellation.wfs.core.DefaultWFSWorker;
+import org.geotoolkit.feature.model.FeatureSetWrapper;
+import org.geotoolkit.feature.xml.jaxp.JAXPStreamFeatureWriter;
+import org.geotoolkit.wfs.xml.ResultTypeType;
+import org.geotoolkit.wfs.xml.v200.GetFeatureType;
+import org.geotoolkit.wfs.xml.v200.QueryType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WFS 2.0.0 GetFeature with paging (startIndex / count), including the GML 3.2.1 encoding of the returned page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WFSGetFeatureBenchmark {
+
+    private static final String GML_NAMESPACE = "http://www.opengis.net/gml/3.2";
+
+    @Param({"RoadSegments", "NamedPlaces"})
+    public String typeName;
+
+    @Param({"0", "2"})
+    public int startIndex;
+
+    @Param({"1", "10"})
+    public int count;
+
+    private BenchmarkContext context;
+    private DefaultWFSWorker worker;
+    private GetFeatureType request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("wfs-benchmark");
+        final List<DataImport> datas = context.testResources.createProviders(TestResource.WMS111_SHAPEFILES, context.getBean(IProviderBusiness.class), null).datas();
+
+        final Integer sid = context.getBean(IServiceBusiness.class).create("wfs", "default", new LayerContext(), null, null);
+        final ILayerBusiness layerBusiness = context.getBean(ILayerBusiness.class);
+        for (DataImport d : datas) {
+            // same namespace as the WFS tests for data with no namespace
+            final String namespace = d.namespace == null || d.namespace.isEmpty() ? GML_NAMESPACE : d.namespace;
+            layerBusiness.add(d.id, null, namespace, d.name, null, sid, null);
+        }
+        worker = new DefaultWFSWorker("default");
+        worker.setServiceUrl("http://localhost/examind/");
+
+        final List<QueryType> queries = Arrays.asList(new QueryType(null, Arrays.asList(new QName(GML_NAMESPACE, typeName)), null));
+        request = new GetFeatureType("WFS", "2.0.0", null, startIndex, count, queries, ResultTypeType.RESULTS, "text/xml; subtype=\"gml/3.2.1\"");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (worker != null) {
+            worker.destroy();
+        }
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public String getFeature() throws Exception {
+        final FeatureSetWrapper result = worker.getFeature(request);
+        final JAXPStreamFeatureWriter featureWriter = new JAXPStreamFeatureWriter("3.2.1", "2.0.0", new HashMap<>());
+        final StringWriter writer = new StringWriter();
+        try {
+            featureWriter.write(result, writer);
+        } finally {
+            featureWriter.dispose();
+        }
+        return writer.toString();
+    }
+}
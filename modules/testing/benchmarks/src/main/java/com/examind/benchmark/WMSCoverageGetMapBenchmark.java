@@ -0,0 +1,119 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+package com.examind.benchmark;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.sis.geometry.GeneralEnvelope;
+import org.apache.sis.referencing.CommonCRS;
+import org.apache.sis.util.Version;
+import org.constellation.business.ILayerBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.dto.service.config.wxs.LayerContext;
+import org.constellation.map.core.DefaultWMSWorker;
+import org.constellation.portrayal.PortrayalResponse;
+import org.constellation.test.utils.TestEnvironment.DataImport;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.geotoolkit.wms.xml.GetMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WMS GetMap on the coverage test layers: coverage read, resampling to the requested grid and rendering of a PNG image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WMSCoverageGetMapBenchmark {
+
+    /**
+     * Requested layer: a world PNG image (with world file) or a GeoTIFF.
+     */
+    @Param({"SSTMDE200305", "martinique"})
+    public String layer;
+
+    /**
+     * Width and height of the rendered image.
+     */
+    @Param({"256", "1024"})
+    public int size;
+
+    private BenchmarkContext context;
+    private DefaultWMSWorker worker;
+    private GetMap request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("wms-coverage-benchmark");
+        final IProviderBusiness providerBusiness = context.getBean(IProviderBusiness.class);
+        final DataImport png = context.testResources.createProvider(TestResource.PNG, providerBusiness, null).datas.get(0);
+        final DataImport tif = context.testResources.createProvider(TestResource.TIF, providerBusiness, null).datas.get(0);
+
+        final Integer sid = context.getBean(IServiceBusiness.class).create("wms", "default", new LayerContext(), null, null);
+        final ILayerBusiness layerBusiness = context.getBean(ILayerBusiness.class);
+        layerBusiness.add(png.id, null, png.namespace, png.name, null, sid, null);
+        layerBusiness.add(tif.id, null, tif.namespace, tif.name, null, sid, null);
+        worker = new DefaultWMSWorker("default");
+
+        // request the full extent of the layer
+        final GeneralEnvelope env = new GeneralEnvelope(CommonCRS.defaultGeographic());
+        if ("martinique".equals(layer)) {
+            env.setRange(0, -61.61, -60.69);
+            env.setRange(1, 14.25, 15.02);
+        } else {
+            env.setRange(0, -180, 180);
+            env.setRange(1, -90, 90);
+        }
+        request = new GetMap(env, new Version("1.3.0"), "image/png", Collections.singletonList(layer), Collections.emptyList(), null, null,
+                null, new Dimension(size, size), Color.WHITE, true, 0.0, "XML", new HashMap<>());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (worker != null) {
+            worker.destroy();
+        }
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Object getMap() throws Exception {
+        final PortrayalResponse response = worker.getMap(request);
+        return response.getImage();
+    }
+}
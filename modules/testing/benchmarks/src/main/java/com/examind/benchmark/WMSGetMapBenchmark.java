@@ -0,0 +1,115 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+*/
+package com.examind.benchmark;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.sis.geometry.GeneralEnvelope;
+import org.apache.sis.referencing.CommonCRS;
+import org.apache.sis.util.Version;
+import org.constellation.business.ILayerBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.dto.service.config.wxs.LayerContext;
+import org.constellation.map.core.DefaultWMSWorker;
+import org.constellation.portrayal.PortrayalResponse;
+import org.constellation.test.utils.TestEnvironment.DataImport;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.geotoolkit.wms.xml.GetMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WMS GetMap on the shapefile test layers: layer lookup, style resolution and rendering of a PNG image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WMSGetMapBenchmark {
+
+    /**
+     * Comma separated list of the requested layers.
+     */
+    @Param({"Lakes", "BasicPolygons,Buildings,RoadSegments,Streams"})
+    public String layers;
+
+    /**
+     * Width and height of the rendered image.
+     */
+    @Param({"256", "1024"})
+    public int size;
+
+    private BenchmarkContext context;
+    private DefaultWMSWorker worker;
+    private GetMap request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("wms-benchmark");
+        final List<DataImport> datas = context.testResources.createProviders(TestResource.WMS111_SHAPEFILES, context.getBean(IProviderBusiness.class), null).datas();
+
+        final Integer sid = context.getBean(IServiceBusiness.class).create("wms", "default", new LayerContext(), null, null);
+        final ILayerBusiness layerBusiness = context.getBean(ILayerBusiness.class);
+        for (DataImport d : datas) {
+            layerBusiness.add(d.id, null, d.namespace, d.name, null, sid, null);
+        }
+        worker = new DefaultWMSWorker("default");
+
+        final GeneralEnvelope env = new GeneralEnvelope(CommonCRS.defaultGeographic());
+        env.setRange(0, -0.0025, 0.0025);
+        env.setRange(1, -0.0025, 0.0025);
+        request = new GetMap(env, new Version("1.3.0"), "image/png", Arrays.asList(layers.split(",")), Collections.emptyList(), null, null,
+                null, new Dimension(size, size), Color.WHITE, true, 0.0, "XML", new HashMap<>());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (worker != null) {
+            worker.destroy();
+        }
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Object getMap() throws Exception {
+        final PortrayalResponse response = worker.getMap(request);
+        return response.getImage();
+    }
+}
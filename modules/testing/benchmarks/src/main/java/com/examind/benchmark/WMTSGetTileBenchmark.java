@@ -0,0 +1,128 @@
+/*
+ *     Examind Community - An open source and standard compliant SDI
+ *     https://community.examind.com/
+ *
+ *  Copyright 2026 Geomatys.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+package com.examind.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.apache.sis.storage.tiling.Tile;
+import org.constellation.business.ILayerBusiness;
+import org.constellation.business.IProviderBusiness;
+import org.constellation.business.IServiceBusiness;
+import org.constellation.dto.service.config.wxs.LayerContext;
+import org.constellation.test.utils.TestEnvironment.DataImport;
+import org.constellation.test.utils.TestEnvironment.TestResource;
+import org.constellation.wmts.core.DefaultWMTSWorker;
+import org.constellation.wmts.ws.rs.StreamResponseWriter;
+import org.geotoolkit.wmts.xml.v100.GetTile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+/**
+ * WMTS GetTile on the local XML pyramid of the test data: layer, tile matrix set and tile lookup,
+ * then transfer of the tile in the response stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WMTSGetTileBenchmark {
+
+    private static final String TILE_MATRIX_SET = "cdfc088c-8f08-490d-94cb-01c4153d0846";
+
+    private static final String TILE_MATRIX = "434d9625502892559x-8,015,018d798x2,037,564d801";
+
+    private BenchmarkContext context;
+    private DefaultWMTSWorker worker;
+    private GetTile request;
+    private StreamResponseWriter writer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new BenchmarkContext("wmts-benchmark");
+        final DataImport pyramid = context.testResources.createProvider(TestResource.XML_PYRAMID, context.getBean(IProviderBusiness.class), null).datas.get(0);
+
+        final Integer sid = context.getBean(IServiceBusiness.class).create("wmts", "default", new LayerContext(), null, null);
+        context.getBean(ILayerBusiness.class).add(pyramid.id, "haiti", pyramid.namespace, pyramid.name, null, sid, null);
+        worker = new DefaultWMTSWorker("default");
+        writer = new StreamResponseWriter();
+
+        request = new GetTile();
+        request.setService("WMTS");
+        request.setVersion("1.0.0");
+        request.setLayer("haiti");
+        request.setFormat("image/png");
+        request.setTileMatrixSet(TILE_MATRIX_SET);
+        request.setTileMatrix(TILE_MATRIX);
+        request.setTileCol(0);
+        request.setTileRow(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (worker != null) {
+            worker.destroy();
+        }
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Tile lookup only.
+     */
+    @Benchmark
+    public Tile getTile() throws Exception {
+        return worker.getTile(request);
+    }
+
+    /**
+     * Tile lookup and transfer in the response, as done by the service.
+     */
+    @Benchmark
+    public int getTileAndWrite() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(worker.getTile(request), MediaType.IMAGE_PNG, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return out;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        });
+        return out.size();
+    }
+}
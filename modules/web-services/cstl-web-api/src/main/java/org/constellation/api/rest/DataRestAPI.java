@@ -69,6 +69,7 @@ import org.constellation.metadata.utils.Utils;
 import org.constellation.provider.DataProviders;
 import org.constellation.provider.PyramidData;
 import org.constellation.util.MetadataMerger;
+import org.constellation.util.CRSUtilities;
 import org.constellation.util.ParamUtilities;
 import org.constellation.util.Util;
 import org.geotoolkit.nio.IOUtilities;
@@ -433,6 +434,39 @@ public class DataRestAPI extends AbstractRestAPI{
         }
     }
 
+    /**
+     * Regenerates the tiles of an existing pyramid which intersect the given area, from the data used to create it.
+     * The other tiles of the pyramid are kept.
+     *
+     * @param dataId The pyramid data identifier.
+     * @param bbox The area to regenerate, as minX,minY,maxX,maxY.
+     * @param crs The CRS of the area, default to CRS:84.
+     * @param req
+     *
+     * @return Informations about tiling process.
+     */
+    @RequestMapping(value="/datas/{dataId}/pyramid/update",method=POST,produces=APPLICATION_JSON_VALUE)
+    public ResponseEntity updatePyramid(@PathVariable("dataId") final int dataId,
+            @RequestParam("bbox") final double[] bbox,
+            @RequestParam(name = "crs", defaultValue = "CRS:84") final String crs,
+            HttpServletRequest req) {
+        if (readOnlyAPI) return readOnlyModeActivated();
+        try {
+            final int userId = assertAuthentificated(req);
+            if (bbox.length != 4) {
+                return new ErrorMessage(BAD_REQUEST).message("The bbox must contain 4 values: minX,minY,maxX,maxY.").build();
+            }
+            final GeneralEnvelope area = new GeneralEnvelope(CRSUtilities.verifyCrs(crs, false).orElseThrow(() -> new ConstellationException("Missing CRS parameter.")));
+            area.setRange(0, bbox[0], bbox[2]);
+            area.setRange(1, bbox[1], bbox[3]);
+            final TilingResult ref = pyramidBusiness.updatePyramid(userId, dataId, area);
+            return new ResponseEntity(ref, OK);
+        } catch (ConstellationException ex) {
+            LOGGER.log(Level.WARNING, ex.getLocalizedMessage(), ex);
+            return new ErrorMessage(ex).build();
+        }
+    }
+
     /**
      * Indicate if given data is a pyramid.
      * If data could not be found or is not a pyramid return an empty list.
@@ -118,6 +118,14 @@ public class ResponseObject {
         this.extraHeaders = extraHeaders;
     }
 
+    public Object getEntity() {
+        return entity;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
     public ResponseEntity getResponseEntity() {
         return getResponseEntity(null);
     }
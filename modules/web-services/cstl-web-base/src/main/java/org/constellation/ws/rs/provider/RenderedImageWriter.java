@@ -24,10 +24,14 @@ import javax.imageio.ImageIO;
 import javax.imageio.ImageWriter;
 import javax.imageio.spi.ImageWriterSpi;
 import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.image.RenderedImage;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -50,6 +54,11 @@ public class RenderedImageWriter implements HttpMessageConverter<RenderedImage>
 
     private static final Logger LOGGER = Logger.getLogger("org.constellation.ws.rs.provider");
 
+    /**
+     * Image writer providers already resolved for a MIME type, to avoid a registry lookup for each response.
+     */
+    private static final Map<String, ImageWriterSpi> WRITER_PROVIDERS = new ConcurrentHashMap<>();
+
     @Override
     public boolean canRead(Class<?> clazz, MediaType mediaType) {
         return false;
@@ -85,10 +94,15 @@ public class RenderedImageWriter implements HttpMessageConverter<RenderedImage>
         ImageOutputStream stream = null;
         try {
             Object output = outputMessage.getBody();
-            writer = getWriterByMIMEType(media.toString(), output, t);
+            writer = getWriter(media.toString(), output, t);
             final ImageWriterSpi spi = writer.getOriginatingProvider();
             if (!isValidType(spi.getOutputTypes(), output)) {
-                stream = ImageIO.createImageOutputStream(output);
+                // images are small enough to be buffered in memory, avoid the ImageIO temporary file cache.
+                if (output instanceof OutputStream out) {
+                    stream = new MemoryCacheImageOutputStream(out);
+                } else {
+                    stream = ImageIO.createImageOutputStream(output);
+                }
                 output = stream;
             }
             writer.setOutput(output);
@@ -102,4 +116,21 @@ public class RenderedImageWriter implements HttpMessageConverter<RenderedImage>
             }
         }
     }
+
+    /**
+     * Return a new image writer for the specified MIME type, using the provider found for a previous response if it
+     * can encode the image.
+     */
+    private static ImageWriter getWriter(final String mimeType, final Object output, final RenderedImage image) throws IOException {
+        final ImageWriterSpi spi = WRITER_PROVIDERS.get(mimeType);
+        if (spi != null && spi.canEncodeImage(image)) {
+            return spi.createWriterInstance();
+        }
+        final ImageWriter writer = getWriterByMIMEType(mimeType, output, image);
+        final ImageWriterSpi newSpi = writer.getOriginatingProvider();
+        if (newSpi != null) {
+            WRITER_PROVIDERS.put(mimeType, newSpi);
+        }
+        return writer;
+    }
 }
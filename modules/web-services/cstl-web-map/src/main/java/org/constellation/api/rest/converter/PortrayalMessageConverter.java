@@ -18,6 +18,7 @@
  */
 package org.constellation.api.rest.converter;
 
+import com.codahale.metrics.Timer;
 import java.awt.image.RenderedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -27,6 +28,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.constellation.portrayal.CstlPortrayalService;
 import org.constellation.portrayal.PortrayalResponse;
+import org.constellation.ws.rs.OGCMetrics;
 import org.geotoolkit.display.PortrayalException;
 import org.geotoolkit.display2d.service.CanvasDef;
 import org.geotoolkit.display2d.service.DefaultPortrayalService;
@@ -95,7 +97,10 @@ public class PortrayalMessageConverter implements HttpMessageConverter<Portrayal
 
             RenderedImage img = r.getImage();
             if(img != null){
-                DefaultPortrayalService.writeImage(img, outdef);
+                // image already rendered by the WMS GetMap, only the encoding remains
+                try (Timer.Context encode = OGCMetrics.phase("wms", "getmap", "encode").time()) {
+                    DefaultPortrayalService.writeImage(img, outdef);
+                }
             } else {
                 final CanvasDef cdef = r.getCanvasDef();
                 final SceneDef sdef = r.getSceneDef();
@@ -23,6 +23,7 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
@@ -49,6 +50,8 @@ import org.geotoolkit.feature.ReprojectMapper;
 import org.geotoolkit.ows.xml.GetFeatureInfo;
 import org.geotoolkit.storage.memory.InMemoryFeatureSet;
 import org.opengis.feature.Feature;
+import org.opengis.feature.FeatureType;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
 
 /**
  * @author Quentin Boileau (Geomatys)
@@ -88,6 +91,13 @@ public abstract class AbstractTextFeatureInfoFormat extends AbstractFeatureInfoF
         visitDef.setVisitor(new GraphicVisitor() {
 
             int idx = 0;
+
+            /**
+             * Reprojection mappers by feature type, all the visited features of a layer share the same type.
+             */
+            final Map<FeatureType, ReprojectMapper> mappers = new IdentityHashMap<>();
+            CoordinateReferenceSystem mappersCRS;
+
             @Override
             public void startVisit() {
             }
@@ -117,7 +127,12 @@ public abstract class AbstractTextFeatureInfoFormat extends AbstractFeatureInfoF
                     }
 
                     // Force data CRS to be the same as requested by user (CRS parameter from GetFeatureInfo query)
-                    final ReprojectMapper mapper = new ReprojectMapper(feat.getType(), context.getObjectiveCRS2D());
+                    final CoordinateReferenceSystem crs = context.getObjectiveCRS2D();
+                    if (crs != mappersCRS) {
+                        mappers.clear();
+                        mappersCRS = crs;
+                    }
+                    final ReprojectMapper mapper = mappers.computeIfAbsent(feat.getType(), type -> new ReprojectMapper(type, crs));
                     feat = mapper.apply(feat);
 
                     final QName layerName = getNameForFeatureLayer(layer);
@@ -27,6 +27,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -150,6 +151,12 @@ public class CoverageProfileInfoFormat extends AbstractFeatureInfoFormat {
     private static final String PARAM_INTERPOLATION = "interpolation";
 
     private static final Map<Unit,List<Unit>> UNIT_GROUPS = new HashMap<>();
+
+    /**
+     * Recently extracted profiles, kept one minute at most. Charting clients tend to send the same profile request
+     * several times (redraw, unit switch, etc.), this avoids reading the coverage again for each of them.
+     */
+    private static final ProfileCache PROFILE_CACHE = new ProfileCache(100, 60_000, System::currentTimeMillis);
     static {
         final List<Unit> tempUnits = new ArrayList<>();
         tempUnits.add(Units.CELSIUS);
@@ -220,7 +227,7 @@ public class CoverageProfileInfoFormat extends AbstractFeatureInfoFormat {
             if (resource instanceof GridCoverageResource) {
                 final GridCoverageResource ressource = (GridCoverageResource) resource;
                 try {
-                    final ProfilLayer l = extract(cdef, getFI, geom, ressource, samplingCount);
+                    final ProfilLayer l = extract(cdef, getFI, geom, ressource, getDataReference(layer), samplingCount);
                     l.name = getNameForCoverageLayer(layer).getLocalPart();
                     if (l.name == null) {
                            l.name = ressource.getIdentifier()
@@ -246,7 +253,33 @@ public class CoverageProfileInfoFormat extends AbstractFeatureInfoFormat {
         return Collections.singletonList(MIME);
     }
 
-    private ProfilLayer extract(CanvasDef cdef, GetFeatureInfo getFI, Geometry geom, GridCoverageResource resource, Integer samplingCount) throws TransformException, FactoryException, DataStoreException {
+    /**
+     * Remove the cached profiles of a provider data, once the provider has been reloaded or deleted.
+     *
+     * @param providerId The provider identifier, or {@code null} to clear all the cached profiles.
+     */
+    public static void invalidateProfiles(final Integer providerId) {
+        if (providerId == null) {
+            PROFILE_CACHE.clear();
+        } else {
+            PROFILE_CACHE.invalidate(providerId);
+        }
+    }
+
+    /**
+     * Return the data of a map layer, as set by the map business when building the portrayal context.
+     *
+     * @return The data identification, or {@code null} if the layer does not come from a provider data.
+     */
+    private static DataReference getDataReference(final MapLayer layer) {
+        final Map<String, Object> properties = layer.getUserProperties();
+        if (properties.get("providerId") instanceof Integer providerId && properties.get("dataId") instanceof Integer dataId) {
+            return new DataReference(providerId, dataId, (Date) properties.get("dataVersion"));
+        }
+        return null;
+    }
+
+    private ProfilLayer extract(CanvasDef cdef, GetFeatureInfo getFI, Geometry geom, GridCoverageResource resource, @Nullable DataReference dataRef, Integer samplingCount) throws TransformException, FactoryException, DataStoreException {
 
         final ProfilLayer layer = new ProfilLayer();
         tryAddMetadata(layer, resource);
@@ -373,9 +406,20 @@ public class CoverageProfileInfoFormat extends AbstractFeatureInfoFormat {
 
             final ProfileConfiguration conf = new ProfileConfiguration(nanBehavior, nanCleanup, outOfBounds, samplingCount, reducer, interpolation);
 
-            final GridCoverage coverage = readCoverage(resource, workEnv, conf);
+            // only the profiles of identified data are cached, they are invalidated with their provider
+            final ProfileCache.Key key = dataRef == null ? null : new ProfileCache.Key(dataRef.providerId, dataRef.dataId, dataRef.dataVersion,
+                    geom.toText(), workEnv, nanBehavior, nanCleanup, outOfBounds, samplingCount, reducer, interpolation);
+            final ProfilData cached = key == null ? null : PROFILE_CACHE.get(key);
+            if (cached != null) {
+                baseData = cached;
+            } else {
+                final GridCoverage coverage = readCoverage(resource, workEnv, conf);
 
-            baseData = extractData(coverage, geom, conf);
+                baseData = extractData(coverage, geom, conf);
+                if (key != null) {
+                    PROFILE_CACHE.put(key, baseData);
+                }
+            }
 
         } catch (DataStoreException ex) {
             layer.message = ex.getMessage();
@@ -909,6 +953,8 @@ public class CoverageProfileInfoFormat extends AbstractFeatureInfoFormat {
         }
     }
 
+    private record DataReference(int providerId, int dataId, Date dataVersion) {}
+
     public static class Band {
 
         public String name;
@@ -1058,6 +1104,20 @@ public class CoverageProfileInfoFormat extends AbstractFeatureInfoFormat {
         public void setMax(double max) {
             this.max = max;
         }
+
+        /**
+         * @return A copy of this profile, with copied points.
+         */
+        public ProfilData copy() {
+            final ProfilData copy = new ProfilData();
+            copy.unit = unit;
+            copy.min = min;
+            copy.max = max;
+            for (XY point : points) {
+                copy.points.add(new XY(point));
+            }
+            return copy;
+        }
     }
 
     public static class XY {
@@ -0,0 +1,105 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.map.featureinfo;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.apache.sis.image.Interpolation;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.NaNCleanup;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.NaNPropagation;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.OutOfBounds;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.ProfilData;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.ReductionMethod;
+import org.opengis.geometry.Envelope;
+
+/**
+ * Recently extracted coverage profiles, with a least recently used eviction and a time to live.
+ * Stored and returned profiles are copies, so callers can modify them freely.
+ */
+final class ProfileCache {
+
+    /**
+     * Identify a profile extraction: the queried data (and its version), the profile geometry, the work envelope
+     * (which holds the geometry CRS and the temporal/vertical slice) and the extraction parameters.
+     */
+    record Key(int providerId, int dataId, Date dataVersion, String geometry, Envelope workEnvelope,
+               NaNPropagation nanPropagation, NaNCleanup nanCleanup, OutOfBounds outOfBounds,
+               Integer samplingCount, ReductionMethod reductionMethod, Interpolation interpolation) {}
+
+    private record Entry(ProfilData data, long time) {}
+
+    private final int maxSize;
+
+    private final long duration;
+
+    private final LongSupplier clock;
+
+    private final Map<Key, Entry> entries;
+
+    /**
+     * @param maxSize Maximum number of profiles kept.
+     * @param duration Time to live of a profile in milliseconds.
+     * @param clock Current time in milliseconds.
+     */
+    ProfileCache(final int maxSize, final long duration, final LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.duration = duration;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > ProfileCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return A copy of the cached profile, or {@code null} if there is none or if it has expired.
+     */
+    synchronized ProfilData get(final Key key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (clock.getAsLong() - entry.time >= duration) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.data.copy();
+    }
+
+    synchronized void put(final Key key, final ProfilData data) {
+        entries.put(key, new Entry(data.copy(), clock.getAsLong()));
+    }
+
+    /**
+     * Remove the profiles extracted from the data of a provider, after the provider has been reloaded or deleted.
+     */
+    synchronized void invalidate(final int providerId) {
+        entries.keySet().removeIf(k -> k.providerId() == providerId);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
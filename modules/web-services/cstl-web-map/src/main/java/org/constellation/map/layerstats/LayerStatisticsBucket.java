@@ -38,6 +38,24 @@ public class LayerStatisticsBucket {
         this.count++;
     }
 
+    /**
+     * Create a new empty bucket sharing the same style information than this one.
+     * Used to accumulate partial statistics on a sub-part of the features.
+     */
+    LayerStatisticsBucket emptyCopy() {
+        return new LayerStatisticsBucket(type, color, series, size, strokeColor, strokeWidth);
+    }
+
+    /**
+     * Add the values accumulated in another bucket to this one.
+     */
+    void merge(final LayerStatisticsBucket other) {
+        this.surface = this.surface + other.surface;
+        this.length = this.length + other.length;
+        this.pointNb = this.pointNb + other.pointNb;
+        this.count = this.count + other.count;
+    }
+
     public double getSurface() {
         return surface;
     }
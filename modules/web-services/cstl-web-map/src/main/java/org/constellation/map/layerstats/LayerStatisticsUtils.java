@@ -3,7 +3,6 @@ package org.constellation.map.layerstats;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.google.common.util.concurrent.AtomicDouble;
 import org.apache.sis.storage.DataStoreException;
 import org.apache.sis.storage.FeatureSet;
 import org.apache.sis.storage.Resource;
@@ -21,7 +20,6 @@ import org.opengis.style.Style;
 import org.opengis.util.InternationalString;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -99,21 +97,18 @@ public class LayerStatisticsUtils {
             ruleStatsMap.put(rule, new LayerStatisticsBucket(type, color, series, size, strokeColor, strokeWidth));
         });
 
-        final AtomicDouble totalSurface = new AtomicDouble();
-        final AtomicDouble totalLength = new AtomicDouble();
-        final AtomicLong totalPonctual = new AtomicLong();
-        final AtomicLong totalCount = new AtomicLong();
-        try (Stream<Feature> features = featureSet.features(false)) {
-            features.forEach(feature -> {
-                updateBucket(feature, totalSurface, totalLength, totalPonctual, totalCount, ruleStatsMap);
-            });
+        // the features are scanned in parallel, each thread filling its own accumulator, merged at the end.
+        final StatisticsAccumulator result;
+        try (Stream<Feature> features = featureSet.features(true)) {
+            result = features.collect(() -> new StatisticsAccumulator(ruleStatsMap),
+                                      StatisticsAccumulator::update,
+                                      StatisticsAccumulator::merge);
         } catch (DataStoreException dse) {
             throw new ConstellationException("Error while accessing featureSet features.", dse);
         } catch (RuntimeException re) {
             throw new ConstellationException("Error while computing area from property \"the_geom\"", re);
         }
-
-        return new LayerStatistics(ruleStatsMap.values(), totalSurface.get(), totalLength.get(), totalPonctual.get(), totalCount.get());
+        return new LayerStatistics(Arrays.asList(result.buckets), result.totalSurface, result.totalLength, result.totalPonctual, result.totalCount);
     }
 
     public static String computeStatisticsForLayerWithStyle(final Resource dataPOrigin, final org.apache.sis.style.Style style) throws ConstellationException {
@@ -176,36 +171,71 @@ public class LayerStatisticsUtils {
         return mapper;
     }
 
-    static void updateBucket(final Feature feature, AtomicDouble totalSurface, AtomicDouble totalLength, final AtomicLong totalPonctual, final AtomicLong totalCount, final LinkedHashMap<Rule, LayerStatisticsBucket> ruleStatsMap) {
-        ArgumentChecks.ensureNonNull("feature", feature);
-        totalCount.incrementAndGet();
+    /**
+     * Partial statistics computed on a part of the features.
+     * An accumulator is used by a single thread at a time, so its fields do not need to be synchronized.
+     */
+    static final class StatisticsAccumulator {
+        private final Filter[] filters;
+        private final LayerStatisticsBucket[] buckets;
+        private double totalSurface;
+        private double totalLength;
+        private long totalPonctual;
+        private long totalCount;
+
+        StatisticsAccumulator(final LinkedHashMap<Rule, LayerStatisticsBucket> ruleStatsMap) {
+            filters = new Filter[ruleStatsMap.size()];
+            buckets = new LayerStatisticsBucket[ruleStatsMap.size()];
+            int i = 0;
+            for (Map.Entry<Rule, LayerStatisticsBucket> entry : ruleStatsMap.entrySet()) {
+                filters[i] = entry.getKey().getFilter();
+                buckets[i] = entry.getValue().emptyCopy();
+                i++;
+            }
+        }
 
-        final Object[] valueAndType = getGeom(feature);
-        if (valueAndType == null) return;
+        void update(final Feature feature) {
+            ArgumentChecks.ensureNonNull("feature", feature);
+            totalCount++;
 
-        final Object typeo = valueAndType[1];
-        if (typeo == null) return;
+            final Object[] valueAndType = getGeom(feature);
+            if (valueAndType == null) return;
 
-        GeomType type = (GeomType) typeo;
-        Object value = valueAndType[0];
-        switch (type) {
-            case POLYGON -> totalSurface.addAndGet((Double) value);
-            case LINE -> totalLength.addAndGet((Double) value);
-            case POINT -> totalPonctual.addAndGet((Long) value);
-        }
+            final Object typeo = valueAndType[1];
+            if (typeo == null) return;
+
+            GeomType type = (GeomType) typeo;
+            Object value = valueAndType[0];
+            switch (type) {
+                case POLYGON -> totalSurface += (Double) value;
+                case LINE -> totalLength += (Double) value;
+                case POINT -> totalPonctual += (Long) value;
+            }
 
-        // If several filters match -> feature info will be added to more than one StatisticsBucket.
-        // Style shall be created to respect the rule : each feature shall match with only one rule/filter.
-        ruleStatsMap.forEach((rule, stats) -> {
-            final Filter filter = rule.getFilter();
-            if (filter == null || filter.test(feature)) {
-                switch (type) {
-                    case POLYGON -> stats.updateSurface((Double) value);
-                    case LINE -> stats.updateLength((Double) value);
-                    case POINT -> stats.updatePointNb((Long) value);
+            // If several filters match -> feature info will be added to more than one StatisticsBucket.
+            // Style shall be created to respect the rule : each feature shall match with only one rule/filter.
+            for (int i = 0; i < filters.length; i++) {
+                final Filter filter = filters[i];
+                if (filter == null || filter.test(feature)) {
+                    final LayerStatisticsBucket stats = buckets[i];
+                    switch (type) {
+                        case POLYGON -> stats.updateSurface((Double) value);
+                        case LINE -> stats.updateLength((Double) value);
+                        case POINT -> stats.updatePointNb((Long) value);
+                    }
                 }
             }
-        });
+        }
+
+        void merge(final StatisticsAccumulator other) {
+            totalSurface  += other.totalSurface;
+            totalLength   += other.totalLength;
+            totalPonctual += other.totalPonctual;
+            totalCount    += other.totalCount;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i].merge(other.buckets[i]);
+            }
+        }
     }
 
     enum GeomType {
@@ -292,6 +292,9 @@ public class MapBusiness implements IMapBusiness {
                 final Map<String, Object> userData = mapItem.getUserProperties();
                 userData.put("layerId", layer.getId());
                 userData.put("layerName", layer.getName());
+                userData.put("providerId", layer.getProviderId());
+                userData.put("dataId", layer.getDataId());
+                userData.put("dataVersion", layer.getDataVersion());
                 layer.getAlias().ifPresent(a -> userData.put("alias", a));
                 if (mapItem instanceof MapLayer mapLayer) {
 
@@ -119,6 +119,18 @@ public class LayerCache {
         return nip.layerId;
     }
 
+    public Integer getProviderId() {
+        return nip.providerID;
+    }
+
+    public Integer getDataId() {
+        return nip.dataId;
+    }
+
+    public Date getDataVersion() {
+        return nip.dataVersion;
+    }
+
     public Optional<String> getAlias() {
         if (nip.alias != null) {
             return Optional.of(nip.alias);
@@ -235,8 +247,23 @@ public class LayerCache {
     public DataType getDataType() {
         return data.getDataType();
     }
-    
+
+    /**
+     * lazy cached data dimensions, read once per layer cache from the database or the provider data.
+     */
+    private SortedSet<Number> elevations;
+    private SortedSet<Date> times;
+    private SortedSet<Date> dateRange;
+    private SortedSet<DimensionRange> sampleValueRanges;
+
     public SortedSet<Number> getAvailableElevations() throws ConstellationStoreException {
+        if (elevations == null) {
+            elevations = readAvailableElevations();
+        }
+        return elevations;
+    }
+
+    private SortedSet<Number> readAvailableElevations() throws ConstellationStoreException {
         SortedSet<Number> elevations;
         if (getDbData().getCachedInfo()) {
             if (getDbData().getHasElevation()) {
@@ -260,6 +287,13 @@ public class LayerCache {
     }
     
     public SortedSet<Date> getAvailableTimes() throws ConstellationStoreException {
+        if (times == null) {
+            times = readAvailableTimes();
+        }
+        return times;
+    }
+
+    private SortedSet<Date> readAvailableTimes() throws ConstellationStoreException {
         SortedSet<Date> dates;
         if (getDbData().getCachedInfo()) {
             if (getDbData().getHasTime()) {
@@ -274,6 +308,13 @@ public class LayerCache {
     }
     
     public SortedSet<Date> getDateRange() throws ConstellationStoreException {
+        if (dateRange == null) {
+            dateRange = readDateRange();
+        }
+        return dateRange;
+    }
+
+    private SortedSet<Date> readDateRange() throws ConstellationStoreException {
         SortedSet<Date> dates;
         if (getDbData().getCachedInfo()) {
             if (getDbData().getHasTime()) {
@@ -288,6 +329,13 @@ public class LayerCache {
     }
     
     public SortedSet<DimensionRange> getSampleValueRanges() throws ConstellationStoreException {
+        if (sampleValueRanges == null) {
+            sampleValueRanges = readSampleValueRanges();
+        }
+        return sampleValueRanges;
+    }
+
+    private SortedSet<DimensionRange> readSampleValueRanges() throws ConstellationStoreException {
         final SortedSet<DimensionRange> dims;
         if (getDbData().getCachedInfo()) {
             if (getDbData().getHasDim()) {
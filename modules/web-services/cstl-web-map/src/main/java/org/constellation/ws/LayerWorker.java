@@ -29,6 +29,7 @@ import org.constellation.dto.service.config.Languages;
 import org.constellation.dto.service.config.wxs.LayerConfig;
 import org.constellation.dto.service.config.wxs.LayerContext;
 import org.constellation.exception.TargetNotFoundException;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat;
 import org.constellation.map.featureinfo.FeatureInfoUtilities;
 import org.constellation.provider.Data;
 import org.constellation.provider.DataProviders;
@@ -124,7 +125,7 @@ public abstract class LayerWorker extends AbstractWorker<LayerContext> {
     @PostConstruct
     public void init(){
 
-        //listen to changes on the providers to clear the getcapabilities cache
+        //listen to changes on the providers to clear the getcapabilities and coverage profiles caches
         listenerUid = clusterBusiness.addMessageListener(new MessageListener() {
             @Override
             protected boolean filter(ClusterMessage message) {
@@ -138,6 +139,7 @@ public abstract class LayerWorker extends AbstractWorker<LayerContext> {
             protected ClusterMessage process(ClusterMessage event) throws Exception, MessageException, CstlServiceException, ConfigurationException {
                 refreshUpdateSequence();
                 clearCapabilitiesCache();
+                CoverageProfileInfoFormat.invalidateProfiles(event.getInteger(KEY_IDENTIFIER, true));
                 return null;
             }
 
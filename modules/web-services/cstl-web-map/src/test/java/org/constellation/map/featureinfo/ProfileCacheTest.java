@@ -0,0 +1,130 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.map.featureinfo;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.sis.geometry.GeneralEnvelope;
+import org.apache.sis.image.Interpolation;
+import org.apache.sis.measure.Units;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.NaNCleanup;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.NaNPropagation;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.OutOfBounds;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.ProfilData;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.ReductionMethod;
+import org.constellation.map.featureinfo.CoverageProfileInfoFormat.XY;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.constellation.map.featureinfo.CoverageProfileInfoTest.LON_LAT_CRS84;
+
+public class ProfileCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    @Test
+    public void keyTest() {
+        final ProfileCache cache = new ProfileCache(10, 1000, time::get);
+        cache.put(key(1, 1, null), profile(1));
+
+        Assert.assertNotNull(cache.get(key(1, 1, null)));
+        // other data, other data version
+        Assert.assertNull(cache.get(key(1, 2, null)));
+        Assert.assertNull(cache.get(key(1, 1, new Date(0))));
+    }
+
+    @Test
+    public void expirationTest() {
+        final ProfileCache cache = new ProfileCache(10, 1000, time::get);
+        cache.put(key(1, 1, null), profile(1));
+
+        time.set(999);
+        Assert.assertNotNull(cache.get(key(1, 1, null)));
+        time.set(1000);
+        Assert.assertNull(cache.get(key(1, 1, null)));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsedTest() {
+        final ProfileCache cache = new ProfileCache(2, 1000, time::get);
+        cache.put(key(1, 1, null), profile(1));
+        cache.put(key(1, 2, null), profile(2));
+
+        // the first profile is used, so the second one is evicted
+        Assert.assertNotNull(cache.get(key(1, 1, null)));
+        cache.put(key(1, 3, null), profile(3));
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNotNull(cache.get(key(1, 1, null)));
+        Assert.assertNull(cache.get(key(1, 2, null)));
+        Assert.assertNotNull(cache.get(key(1, 3, null)));
+    }
+
+    @Test
+    public void invalidateTest() {
+        final ProfileCache cache = new ProfileCache(10, 1000, time::get);
+        cache.put(key(1, 1, null), profile(1));
+        cache.put(key(2, 2, null), profile(2));
+
+        cache.invalidate(1);
+        Assert.assertNull(cache.get(key(1, 1, null)));
+        Assert.assertNotNull(cache.get(key(2, 2, null)));
+    }
+
+    @Test
+    public void defensiveCopyTest() {
+        final ProfileCache cache = new ProfileCache(10, 1000, time::get);
+        final ProfilData data = profile(1);
+        cache.put(key(1, 1, null), data);
+
+        // modify the stored profile and a returned one
+        data.points.get(0).y = -1;
+        data.points.clear();
+        final ProfilData cached = cache.get(key(1, 1, null));
+        Assert.assertNotSame(data, cached);
+        Assert.assertEquals(2, cached.points.size());
+        Assert.assertEquals(1, cached.points.get(0).y, 0.0);
+        cached.points.get(0).y = -1;
+        cached.setMax(-1);
+
+        final ProfilData other = cache.get(key(1, 1, null));
+        Assert.assertEquals(Units.METRE, other.getUnit());
+        Assert.assertEquals(1, other.points.get(0).y, 0.0);
+        Assert.assertEquals(2, other.getMax(), 0.0);
+    }
+
+    private static ProfileCache.Key key(int providerId, int dataId, Date version) {
+        final GeneralEnvelope env = new GeneralEnvelope(LON_LAT_CRS84);
+        env.setRange(0, 0, 10);
+        env.setRange(1, 0, 10);
+        return new ProfileCache.Key(providerId, dataId, version, "LINESTRING (0 0, 10 10)", env,
+                NaNPropagation.ALL, NaNCleanup.CONTINUOUS, OutOfBounds.NAN, null, ReductionMethod.AVG, Interpolation.NEAREST);
+    }
+
+    private static ProfilData profile(double value) {
+        final ProfilData data = new ProfilData();
+        data.setUnit(Units.METRE);
+        data.setMin(value);
+        data.setMax(value + 1);
+        data.points.add(new XY(0, value));
+        data.points.add(new XY(1, value + 1));
+        return data;
+    }
+}
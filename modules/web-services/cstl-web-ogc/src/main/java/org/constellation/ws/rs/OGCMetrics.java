@@ -0,0 +1,57 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.ws.rs;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.codahale.metrics.Timer;
+
+/**
+ * Timers of the phases of an OGC operation, recorded in the {@link OGCWebService#METRICS_REGISTRY} registry
+ * next to the request timers, under the name {@code ogc.<service>.<operation>.<phase>}.
+ */
+public final class OGCMetrics {
+
+    private static final MetricRegistry METRICS = SharedMetricRegistries.getOrCreate(OGCWebService.METRICS_REGISTRY);
+
+    /**
+     * Request attribute holding the metric name prefix of the operation, read by {@link OGCMetricsFilter}.
+     */
+    static final String PREFIX_ATTRIBUTE = "examind.metrics.prefix";
+
+    /**
+     * Request attribute holding the {@link System#nanoTime()} at which the worker returned the response,
+     * read by {@link OGCMetricsFilter} to time the serialization.
+     */
+    static final String SERIALIZE_START_ATTRIBUTE = "examind.metrics.serialize.start";
+
+    private OGCMetrics() {}
+
+    /**
+     * Return the timer of a phase of an operation.
+     *
+     * @param service Lower-cased service name, for example "wms".
+     * @param operation Lower-cased operation name, for example "getmap".
+     * @param phase Phase name, for example "render".
+     * @return The timer, created on the first call.
+     */
+    public static Timer phase(final String service, final String operation, final String phase) {
+        return METRICS.timer(MetricRegistry.name("ogc", service, operation, phase));
+    }
+}
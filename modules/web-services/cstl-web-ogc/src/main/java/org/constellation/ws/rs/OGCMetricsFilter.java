@@ -0,0 +1,132 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.ws.rs;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complete the OGC request metrics with the response side: a {@code bytes-out} meter counting the bytes written
+ * to the response output stream and a {@code serialize} timer measuring the time spent between the end of the
+ * worker call and the end of the response writing.
+ * Only the requests handled by an {@link OGCWebService} are recorded, under the same prefix as their request timer.
+ * Registered by the spring-boot application and declared in the web.xml of the war bundles.
+ */
+public final class OGCMetricsFilter implements Filter {
+
+    private static final MetricRegistry METRICS = SharedMetricRegistries.getOrCreate(OGCWebService.METRICS_REGISTRY);
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (!(response instanceof HttpServletResponse httpResponse)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final CountingResponse counting = new CountingResponse(httpResponse);
+        try {
+            chain.doFilter(request, counting);
+        } finally {
+            if (request.getAttribute(OGCMetrics.PREFIX_ATTRIBUTE) instanceof String prefix) {
+                METRICS.meter(MetricRegistry.name(prefix, "bytes-out")).mark(counting.count());
+                if (request.getAttribute(OGCMetrics.SERIALIZE_START_ATTRIBUTE) instanceof Long start) {
+                    METRICS.timer(MetricRegistry.name(prefix, "serialize")).update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Response wrapper counting the bytes written to its output stream.
+     * The output written through {@link #getWriter()} is not counted, the OGC responses use the stream.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private CountingOutputStream output;
+
+        private CountingResponse(final HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (output == null) {
+                output = new CountingOutputStream(super.getOutputStream());
+            }
+            return output;
+        }
+
+        private long count() {
+            return output == null ? 0 : output.count;
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private long count;
+
+        private CountingOutputStream(final ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.ws.rs;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import com.codahale.metrics.jmx.JmxReporter;
+import io.dropwizard.metrics.servlets.HealthCheckServlet;
+import io.dropwizard.metrics.servlets.MetricsServlet;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+
+/**
+ * Expose the OGC request metrics registry (see {@link OGCWebService#METRICS_REGISTRY}) to the metrics admin servlet
+ * and as JMX MBeans in the {@code org.constellation.metrics} domain.
+ * Registered by the spring-boot application and declared in the web.xml of the war bundles.
+ */
+public final class OGCMetricsListener implements ServletContextListener {
+
+    private JmxReporter jmxReporter;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        final MetricRegistry registry = SharedMetricRegistries.getOrCreate(OGCWebService.METRICS_REGISTRY);
+        sce.getServletContext().setAttribute(MetricsServlet.METRICS_REGISTRY, registry);
+        sce.getServletContext().setAttribute(HealthCheckServlet.HEALTH_CHECK_REGISTRY, new HealthCheckRegistry());
+        jmxReporter = JmxReporter.forRegistry(registry).inDomain("org.constellation.metrics").build();
+        jmxReporter.start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        if (jmxReporter != null) {
+            jmxReporter.stop();
+            jmxReporter = null;
+        }
+        sce.getServletContext().removeAttribute(MetricsServlet.METRICS_REGISTRY);
+        sce.getServletContext().removeAttribute(HealthCheckServlet.HEALTH_CHECK_REGISTRY);
+    }
+}
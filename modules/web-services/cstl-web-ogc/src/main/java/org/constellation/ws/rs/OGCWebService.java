@@ -18,12 +18,20 @@
  */
 package org.constellation.ws.rs;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.codahale.metrics.Timer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
+import java.util.regex.Pattern;
 import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.xml.bind.JAXBElement;
 import javax.xml.validation.Schema;
 import org.apache.sis.util.iso.Types;
@@ -87,6 +95,23 @@ import org.springframework.http.MediaType;
  */
 public abstract class OGCWebService<W extends Worker> extends AbstractWebService {
 
+    /**
+     * Name of the shared metric registry where the OGC requests timers and counters are recorded.
+     */
+    public static final String METRICS_REGISTRY = "examind";
+
+    private static final MetricRegistry METRICS = SharedMetricRegistries.getOrCreate(METRICS_REGISTRY);
+
+    /**
+     * Maximum number of distinct operation names recorded, to keep a bounded number of metrics
+     * since the KVP request names come from the client.
+     */
+    private static final int MAX_OPERATIONS = 200;
+
+    private static final Pattern OPERATION_PATTERN = Pattern.compile("[A-Za-z]{1,40}");
+
+    private static final Set<String> OPERATIONS = ConcurrentHashMap.newKeySet();
+
     private final String serviceName;
 
     @Autowired
@@ -167,7 +192,25 @@ public abstract class OGCWebService<W extends Worker> extends AbstractWebService
             if (worker.isPrintRequestParameter()) {
                 logParameters();
             }
-            return treatIncomingRequest(objectRequest, worker);
+            final String metricPrefix = MetricRegistry.name("ogc", serviceName.toLowerCase(Locale.ROOT), getOperationName(objectRequest));
+            final Timer.Context timer = METRICS.timer(MetricRegistry.name(metricPrefix, "requests")).time();
+            try {
+                final ResponseObject response = treatIncomingRequest(objectRequest, worker);
+                if (isErrorResponse(response)) {
+                    METRICS.counter(MetricRegistry.name(metricPrefix, "errors")).inc();
+                }
+                return response;
+            } catch (RuntimeException ex) {
+                METRICS.counter(MetricRegistry.name(metricPrefix, "errors")).inc();
+                throw ex;
+            } finally {
+                timer.stop();
+                final HttpServletRequest httpRequest = getHttpServletRequest();
+                if (httpRequest != null) {
+                    httpRequest.setAttribute(OGCMetrics.PREFIX_ATTRIBUTE, metricPrefix);
+                    httpRequest.setAttribute(OGCMetrics.SERIALIZE_START_ATTRIBUTE, System.nanoTime());
+                }
+            }
 
         // unbounded URL
         } else {
@@ -176,6 +219,42 @@ public abstract class OGCWebService<W extends Worker> extends AbstractWebService
         }
     }
 
+    /**
+     * Return the operation name used to record the request metrics.
+     *
+     * XML and KVP requests of a same operation are recorded under the same name: the binding class name of
+     * the XML requests (for example {@code GetFeatureType}) is reduced to the operation name ({@code getfeature}).
+     *
+     * @param objectRequest The XML request, or {@code null} for a KVP request.
+     * @return The lower-cased operation name, "unknown" or "other".
+     */
+    private String getOperationName(final Object objectRequest) {
+        String operation;
+        if (objectRequest != null) {
+            operation = objectRequest.getClass().getSimpleName().toLowerCase(Locale.ROOT);
+            if (operation.length() > 4 && operation.endsWith("type")) {
+                operation = operation.substring(0, operation.length() - 4);
+            }
+        } else {
+            operation = getSafeParameter("request");
+            if (operation == null || !OPERATION_PATTERN.matcher(operation).matches()) {
+                return "unknown";
+            }
+            operation = operation.toLowerCase(Locale.ROOT);
+        }
+        if (OPERATIONS.contains(operation) || (OPERATIONS.size() < MAX_OPERATIONS && OPERATIONS.add(operation))) {
+            return operation;
+        }
+        return "other";
+    }
+
+    private static boolean isErrorResponse(final ResponseObject response) {
+        if (response == null) return false;
+        if (response.getEntity() instanceof ExceptionResponse) return true;
+        final HttpStatus status = response.getStatus();
+        return status != null && status.isError();
+    }
+
     protected W getWorker(String serviceID) {
         if (serviceID != null && wsengine.serviceInstanceExist(serviceName, serviceID)) {
             W worker = (W) wsengine.getInstance(serviceName, serviceID);
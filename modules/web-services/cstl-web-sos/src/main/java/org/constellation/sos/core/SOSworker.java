@@ -67,6 +67,7 @@ import static com.examind.sensor.ws.SensorUtils.isCompleteEnvelope3D;
 import static org.constellation.api.CommonConstants.SENSORML_101_FORMAT_V100;
 import static org.constellation.api.CommonConstants.SENSORML_101_FORMAT_V200;
 import org.constellation.ws.CstlServiceException;
+import org.constellation.ws.rs.OGCMetrics;
 import org.geotoolkit.gml.xml.AbstractFeature;
 import org.geotoolkit.gml.xml.Envelope;
 import org.geotoolkit.gml.xml.FeatureCollection;
@@ -1076,7 +1077,12 @@ public class SOSworker extends SensorWorker {
                 /*
                  * - The filterReader execute a request and return directly the observations
                  */
-                final List<AbstractObservation> matchingResult = omProvider.getObservations(query).stream().map(obs -> toXML(obs, currentVersion)).toList();
+                final List<Observation> queryResult;
+                try (var ctx = OGCMetrics.phase("sos", "getobservation", "query").time()) {
+                    queryResult = omProvider.getObservations(query);
+                }
+                final var build = OGCMetrics.phase("sos", "getobservation", "build").time();
+                final List<AbstractObservation> matchingResult = queryResult.stream().map(obs -> toXML(obs, currentVersion)).toList();
                 final Envelope computedBounds;
                 if (pc.computeCollectionBound) {
                     computedBounds = null; //localOmFilter.getCollectionBoundingShape(); for now no implementation perform this
@@ -1128,6 +1134,7 @@ public class SOSworker extends SensorWorker {
                 ocResponse = regroupObservation(currentVersion, envelope, ocResponse);
                 ocResponse = normalizeDocument(currentVersion, ocResponse);
                 response   = ocResponse;
+                build.stop();
             } else {
                 final ResultQuery query = new ResultQuery(filter, resultModel, ResponseMode.OUT_OF_BAND, null, responseFormat);
                 try {
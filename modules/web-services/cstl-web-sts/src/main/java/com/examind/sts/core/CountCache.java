@@ -0,0 +1,80 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.examind.sts.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code @iot.count} values computed for the first page of a request, keyed by filter signature.
+ * They are reused by the pages requested through the {@code @iot.nextLink} until they expire.
+ */
+class CountCache {
+
+    /**
+     * Time (in milliseconds) during which a count is reused. A value of 0 or less disable the cache.
+     */
+    private final long duration;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    CountCache(final long duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Return the count recorded for the specified key if it is still fresh.
+     *
+     * @param key Filter signature of the request.
+     * @param now Current time in milliseconds.
+     *
+     * @return The cached count, or {@code null} if there is none or if it has expired.
+     */
+    Long get(final String key, final long now) {
+        if (duration <= 0) {
+            return null;
+        }
+        final CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.time < duration) {
+            return cached.value;
+        }
+        return null;
+    }
+
+    /**
+     * Record a freshly computed count, and remove the expired ones.
+     *
+     * @param key Filter signature of the request.
+     * @param value Computed count.
+     * @param now Current time in milliseconds.
+     */
+    void put(final String key, final long value, final long now) {
+        if (duration <= 0) {
+            return;
+        }
+        counts.values().removeIf(cached -> now - cached.time >= duration);
+        counts.put(key, new CachedCount(value, now));
+    }
+
+    void clear() {
+        counts.clear();
+    }
+
+    private record CachedCount(long value, long time) {}
+}
@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -154,8 +155,20 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
 
     private static final GeometryFactory JTS_GEOM_FACTORY = new GeometryFactory();
 
+    /**
+     * Maximum number of parent entities resolved by a single {@code $expand} sub-query.
+     */
+    private static final int EXPAND_BATCH_SIZE = 100;
+
+    /**
+     * {@code @iot.count} values reused by the following pages of a request.
+     * Their lifetime (in milliseconds) is set by the service property "countCacheDuration" (default to one minute, 0 to disable).
+     */
+    private final CountCache countCache;
+
     public DefaultSTSWorker(final String id) {
         super(id, ServiceDef.Specification.STS);
+        this.countCache = new CountCache(getIntegerProperty("countCacheDuration", 60_000));
         started();
     }
 
@@ -265,6 +278,47 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
         return null;
     }
 
+    /**
+     * Return the total number of entities matching the request, ignoring the pagination.
+     * When the request is a following page ({@code $skip} set), the count computed for a previous page
+     * with the same filters is returned if it is still fresh.
+     *
+     * @param req STS request.
+     * @param subquery Observation query built from the request.
+     *
+     * @return The number of entities matching the request filters.
+     */
+    private long getCount(AbstractSTSRequest req, AbstractObservationQuery subquery) throws ConstellationStoreException {
+        final String key = getCountKey(req, subquery);
+        final long now = System.currentTimeMillis();
+        if (req.getSkip() != null) {
+            final Long cached = countCache.get(key, now);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final long count = omProvider.getCount(subquery.noPaging());
+        countCache.put(key, count, now);
+        return count;
+    }
+
+    /**
+     * Build the count cache key of a request. Several collections (Datastreams, MultiDatastreams, Observations)
+     * query the same entity type, so the key also holds the request type and the observation query parameters.
+     */
+    private static String getCountKey(AbstractSTSRequest req, AbstractObservationQuery subquery) {
+        final StringBuilder key = new StringBuilder(req.getClass().getSimpleName()).append('|').append(subquery.getEntityType());
+        if (subquery instanceof ObservationQuery obsQuery) {
+            key.append('|').append(obsQuery.getResultModel())
+               .append('|').append(obsQuery.getResponseMode())
+               .append('|').append(obsQuery.getResultMode());
+        }
+        key.append('|').append(req.getFilter())
+           .append('|').append(new TreeMap<>(req.getExtraFilter()))
+           .append('|').append(new TreeMap<>(req.getExtraFlag()));
+        return key.toString();
+    }
+
     private AbstractObservationQuery buildExtraFilterQuery(OMEntity entityType, AbstractSTSRequest req, boolean applyPagination) throws CstlServiceException {
         return buildExtraFilterQuery(entityType, req, applyPagination, new ArrayList<>());
     }
@@ -317,7 +371,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
         try {
             final AbstractObservationQuery subquery = buildExtraFilterQuery(OMEntity.PROCEDURE, req, true);
             if (req.getCount()) {
-                count = new BigDecimal(omProvider.getCount(subquery.noPaging()));
+                count = new BigDecimal(getCount(req, subquery));
             }
             final Integer reqTop = getRequestTop(req);
             if (reqTop == null || reqTop > 0) {
@@ -325,14 +379,18 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
                 final RequestCache cache = new RequestCache();
                 List<Procedure> procs = omProvider.getProcedures(subquery);
 
+                // TODO here if the provider is not "all" linked, there will be issues in the paging
+                final List<Procedure> linkedProcs = new ArrayList<>();
                 for (Procedure proc : procs) {
-                    String sensorId = proc.getId();
-                    // TODO here if the provider is not "all" linked, there will be issues in the paging
-                    if (isLinkedSensor(sensorId, true)) {
-                        Thing thing = cache.getOrCreateThing(exp, sensorId, null, proc);
-                        values.add(thing);
+                    if (isLinkedSensor(proc.getId(), true)) {
+                        linkedProcs.add(proc);
                     }
                 }
+                cache.prefetchSensorTemplates(exp, linkedProcs.stream().map(Procedure::getId).toList());
+                for (Procedure proc : linkedProcs) {
+                    Thing thing = cache.getOrCreateThing(exp, proc.getId(), null, proc);
+                    values.add(thing);
+                }
             }
             iotNextLink = computePaginationNextLink(req, values.size(), count != null ? count.intValue() : null, "/Things");
 
@@ -474,7 +532,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
                 values.add(result);
             }
             if (req.getCount()) {
-                count = new BigDecimal(omProvider.getCount(obsSubquery.noPaging()));
+                count = new BigDecimal(getCount(req, obsSubquery));
             }
             String iotNextLink = computePaginationNextLink(req, values.size(), count != null ? count.intValue() : null, "/Observations");
             return new ObservationsResponse(values).iotCount(count).iotNextLink(iotNextLink);
@@ -848,7 +906,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
                 }
             }
             if (req.getCount()) {
-                count = new BigDecimal(omProvider.getCount(subquery.noPaging()));
+                count = new BigDecimal(getCount(req, subquery));
             }
         } catch (ConstellationStoreException ex) {
             throw new CstlServiceException(ex);
@@ -993,7 +1051,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
             subquery.setIncludeFoiInTemplate(false);
             subquery.setIncludeTimeInTemplate(true);
             if (req.getCount()) {
-                count = new BigDecimal(omProvider.getCount(subquery.noPaging()));
+                count = new BigDecimal(getCount(req, subquery));
             }
             final Integer reqTop = getRequestTop(req);
             if (reqTop == null || reqTop > 0) {
@@ -1224,7 +1282,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
                 }
             }
             if (req.getCount()) {
-                count = new BigDecimal(omProvider.getCount(subquery.noPaging()));
+                count = new BigDecimal(getCount(req, subquery));
             }
         } catch (ConstellationStoreException ex) {
             throw new CstlServiceException(ex);
@@ -1323,6 +1381,41 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
         return getObservationsWherePropertyEqValue("procedure", sensorId, OBSERVATION_QNAME);
     }
 
+    /**
+     * Return the templates of all the specified sensors, grouped by sensor.
+     * The sensors are resolved by sub-queries of {@link #EXPAND_BATCH_SIZE} identifiers, instead of one query by sensor.
+     *
+     * @param sensorIds Sensor identifiers.
+     * @param resultModel Type of templates to return (measurement for datastreams, observation for multi-datastreams).
+     *
+     * @return A map containing an entry (possibly empty) for each requested sensor.
+     */
+    private Map<String, List<org.geotoolkit.observation.model.Observation>> getTemplatesForSensors(List<String> sensorIds, QName resultModel) throws ConstellationStoreException {
+        final Map<String, List<org.geotoolkit.observation.model.Observation>> results = new HashMap<>();
+        for (String sensorId : sensorIds) {
+            results.put(sensorId, new ArrayList<>());
+        }
+        for (int i = 0; i < sensorIds.size(); i += EXPAND_BATCH_SIZE) {
+            final List<Filter> filters = new ArrayList<>();
+            for (String sensorId : sensorIds.subList(i, Math.min(i + EXPAND_BATCH_SIZE, sensorIds.size()))) {
+                filters.add(ff.equal(ff.property("procedure"), ff.literal(sensorId)));
+            }
+            final ObservationQuery subquery = new ObservationQuery(resultModel, RESULT_TEMPLATE, null);
+            subquery.setSelection(filters.size() == 1 ? filters.get(0) : ff.or(filters));
+            subquery.setIncludeFoiInTemplate(false);
+            subquery.setIncludeTimeInTemplate(true);
+            for (org.geotoolkit.observation.model.Observation template : omProvider.getObservations(subquery)) {
+                if (template.getProcedure() != null) {
+                    final List<org.geotoolkit.observation.model.Observation> sensorTemplates = results.get(template.getProcedure().getId());
+                    if (sensorTemplates != null) {
+                        sensorTemplates.add(template);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
     private  Map<Date, Geometry> getHistoricalLocationsForSensor(String sensorId) throws ConstellationStoreException {
         final HistoricalLocationQuery subquery = new HistoricalLocationQuery();
         ResourceId filter = ff.resourceId(sensorId);
@@ -1428,7 +1521,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
             } else {
                 final AbstractObservationQuery subquery = buildExtraFilterQuery(OMEntity.LOCATION, req, true);
                 if (req.getCount()) {
-                    count = new BigDecimal(omProvider.getCount(subquery.noPaging()));
+                    count = new BigDecimal(getCount(req, subquery));
                 }
                 final Integer reqTop = getRequestTop(req);
                 if (reqTop == null || reqTop > 0) {
@@ -1466,7 +1559,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
         try {
             final AbstractObservationQuery subquery = buildExtraFilterQuery(OMEntity.PROCEDURE, req, true);
             if (req.getCount()) {
-                count = new BigDecimal(omProvider.getCount(subquery.noPaging()));
+                count = new BigDecimal(getCount(req, subquery));
             }
             final Integer reqTop = getRequestTop(req);
             if (reqTop == null || reqTop > 0) {
@@ -1474,14 +1567,18 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
                 final RequestCache cache = new RequestCache();
                 List<Procedure> procs = omProvider.getProcedures(subquery);
 
+                // TODO here if the provider is not "all" linked, there will be issues in the paging
+                final List<String> sensorIds = new ArrayList<>();
                 for (Procedure proc : procs) {
-                    String sensorId = proc.getId();
-                    // TODO here if the provider is not "all" linked, there will be issues in the paging
-                    if (isLinkedSensor(sensorId, true)) {
-                        Sensor sensor = cache.getOrCreateSensor(exp, sensorId, null);
-                        values.add(sensor);
+                    if (isLinkedSensor(proc.getId(), true)) {
+                        sensorIds.add(proc.getId());
                     }
                 }
+                cache.prefetchSensorTemplates(exp, sensorIds);
+                for (String sensorId : sensorIds) {
+                    Sensor sensor = cache.getOrCreateSensor(exp, sensorId, null);
+                    values.add(sensor);
+                }
             }
             iotNextLink = computePaginationNextLink(req, values.size(), count != null ? count.intValue() : null, "/Sensors");
 
@@ -1541,7 +1638,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
 
         if (exp.datastreams.expanded) {
             RequestOptions dsExp = exp.subLevel("Datastreams");
-            List<org.geotoolkit.observation.model.Observation> linkedTemplates = getDatastreamForSensor(sensorID);
+            List<org.geotoolkit.observation.model.Observation> linkedTemplates = cache.getDatastreamsForSensor(sensorID);
             for (org.geotoolkit.observation.model.Observation template : linkedTemplates) {
                 sensor.addDatastreamsItem(cache.getOrCreateDatastream(dsExp, template));
             }
@@ -1551,7 +1648,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
 
         if (exp.multiDatastreams.expanded) {
             RequestOptions mdsExp = exp.subLevel("MultiDatastreams");
-            List<org.geotoolkit.observation.model.Observation> linkedTemplates = getMultiDatastreamForSensor(sensorID);
+            List<org.geotoolkit.observation.model.Observation> linkedTemplates = cache.getMultiDatastreamsForSensor(sensorID);
             for (org.geotoolkit.observation.model.Observation template : linkedTemplates) {
                 sensor.addMultiDatastreamsItem(cache.getOrCreateMultiDatastream(mdsExp,  template));
             }
@@ -1593,7 +1690,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
 
         if (exp.datastreams.expanded) {
             RequestOptions dsExp = exp.subLevel("Datastreams");
-            List<org.geotoolkit.observation.model.Observation> linkedTemplates = getDatastreamForSensor(sensorID);
+            List<org.geotoolkit.observation.model.Observation> linkedTemplates = cache.getDatastreamsForSensor(sensorID);
             for (org.geotoolkit.observation.model.Observation template : linkedTemplates) {
                 thing.addDatastreamsItem(cache.getOrCreateDatastream(dsExp, template));
             }
@@ -1603,7 +1700,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
 
         if (exp.multiDatastreams.expanded) {
             RequestOptions mdsExp = exp.subLevel("MultiDatastreams");
-            List<org.geotoolkit.observation.model.Observation> linkedTemplates = getMultiDatastreamForSensor(sensorID);
+            List<org.geotoolkit.observation.model.Observation> linkedTemplates = cache.getMultiDatastreamsForSensor(sensorID);
             for (org.geotoolkit.observation.model.Observation template : linkedTemplates) {
                 thing.addMultiDatastreamsItem(cache.getOrCreateMultiDatastream(mdsExp, template));
             }
@@ -1786,7 +1883,7 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
             
             final AbstractObservationQuery subquery = buildExtraFilterQuery(OMEntity.FEATURE_OF_INTEREST, req, true);
             if (req.getCount()) {
-                count = new BigDecimal(omProvider.getCount(subquery.noPaging()));
+                count = new BigDecimal(getCount(req, subquery));
             }
             final Integer reqTop = getRequestTop(req);
             if (reqTop == null || reqTop > 0) {
@@ -1969,10 +2066,11 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
     @Override
     public void destroy() {
         super.destroy();
+        countCache.clear();
         stopped();
     }
-    
-    
+
+
     private class RequestCache {
         private final Map<String, org.constellation.dto.Sensor> exaSensors = new HashMap<>();
         private final Map<String, ObservedProperty> obsProperties          = new HashMap<>();
@@ -1985,6 +2083,39 @@ public class DefaultSTSWorker extends SensorWorker implements STSWorker {
         private final Map<String, FeatureOfInterest> featureOfInterest     = new HashMap<>();
         private final Map<String, GeoJSONGeometry> sensorArea              = new HashMap<>();
         private final Map<TemporalPrimitive, String> timesCache               = new HashMap<>();
+        private final Map<String, List<org.geotoolkit.observation.model.Observation>> sensorDatastreams      = new HashMap<>();
+        private final Map<String, List<org.geotoolkit.observation.model.Observation>> sensorMultiDatastreams = new HashMap<>();
+
+        /**
+         * Resolve in a few grouped queries the datastreams and multi-datastreams that will be expanded for the specified sensors.
+         */
+        public void prefetchSensorTemplates(RequestOptions exp, List<String> sensorIds) throws ConstellationStoreException {
+            if (sensorIds.isEmpty()) return;
+            if (exp.datastreams.expanded) {
+                sensorDatastreams.putAll(getTemplatesForSensors(sensorIds, MEASUREMENT_QNAME));
+            }
+            if (exp.multiDatastreams.expanded) {
+                sensorMultiDatastreams.putAll(getTemplatesForSensors(sensorIds, OBSERVATION_QNAME));
+            }
+        }
+
+        public List<org.geotoolkit.observation.model.Observation> getDatastreamsForSensor(String sensorId) throws ConstellationStoreException {
+            List<org.geotoolkit.observation.model.Observation> result = sensorDatastreams.get(sensorId);
+            if (result == null) {
+                result = getDatastreamForSensor(sensorId);
+                sensorDatastreams.put(sensorId, result);
+            }
+            return result;
+        }
+
+        public List<org.geotoolkit.observation.model.Observation> getMultiDatastreamsForSensor(String sensorId) throws ConstellationStoreException {
+            List<org.geotoolkit.observation.model.Observation> result = sensorMultiDatastreams.get(sensorId);
+            if (result == null) {
+                result = getMultiDatastreamForSensor(sensorId);
+                sensorMultiDatastreams.put(sensorId, result);
+            }
+            return result;
+        }
         
         public Datastream getOrCreateDatastream(RequestOptions exp, org.geotoolkit.observation.model.Observation template) throws ConstellationStoreException {
             String id = template.getId();
@@ -0,0 +1,55 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.examind.sts.core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CountCacheTest {
+
+    @Test
+    public void expirationTest() throws Exception {
+        CountCache cache = new CountCache(1000);
+
+        Assert.assertNull(cache.get("Things|null", 0));
+
+        cache.put("Things|null", 12, 0);
+        Assert.assertEquals(Long.valueOf(12), cache.get("Things|null", 0));
+        Assert.assertEquals(Long.valueOf(12), cache.get("Things|null", 999));
+        Assert.assertNull(cache.get("Datastreams|null", 999));
+
+        // expired
+        Assert.assertNull(cache.get("Things|null", 1000));
+
+        // a new count refresh the entry
+        cache.put("Things|null", 15, 1000);
+        Assert.assertEquals(Long.valueOf(15), cache.get("Things|null", 1500));
+
+        cache.clear();
+        Assert.assertNull(cache.get("Things|null", 1500));
+    }
+
+    @Test
+    public void disabledTest() throws Exception {
+        CountCache cache = new CountCache(0);
+
+        cache.put("Things|null", 12, 0);
+        Assert.assertNull(cache.get("Things|null", 0));
+    }
+}
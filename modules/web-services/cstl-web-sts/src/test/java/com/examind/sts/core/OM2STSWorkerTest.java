@@ -70,6 +70,8 @@ import org.geotoolkit.sts.GetObservedProperties;
 import org.geotoolkit.sts.GetObservedPropertyById;
 import org.geotoolkit.sts.GetSensorById;
 import org.geotoolkit.sts.GetSensors;
+import org.geotoolkit.sts.GetThingById;
+import org.geotoolkit.sts.GetThings;
 import org.geotoolkit.sts.json.DataArray;
 import org.geotoolkit.sts.json.DataArrayResponse;
 import org.geotoolkit.sts.json.Datastream;
@@ -86,6 +88,8 @@ import org.geotoolkit.sts.json.ObservedProperty;
 import org.geotoolkit.sts.json.STSCapabilities;
 import org.geotoolkit.sts.json.STSResponse;
 import org.geotoolkit.sts.json.SensorsResponse;
+import org.geotoolkit.sts.json.Thing;
+import org.geotoolkit.sts.json.ThingsResponse;
 import org.geotoolkit.sts.json.UnitOfMeasure;
 import org.geotoolkit.util.DeltaComparable;
 import org.junit.AfterClass;
@@ -2114,6 +2118,34 @@ public class OM2STSWorkerTest extends SpringContextTest {
 
     }
 
+    /**
+     * Datastreams and MultiDatastreams both count observation templates: the count of a following page must not be
+     * taken from the count cache of the other collection.
+     */
+    @Test
+    @Order(order=10)
+    public void getDatastreamsMultiDatastreamsCountTest() throws Exception {
+        GetDatastreams dsRequest = new GetDatastreams();
+        dsRequest.setCount(true);
+        DatastreamsResponse dsResult = worker.getDatastreams(dsRequest);
+        Assert.assertEquals(36, dsResult.getIotCount().intValue());
+
+        GetMultiDatastreams mdsRequest = new GetMultiDatastreams();
+        mdsRequest.setCount(true);
+        mdsRequest.setSkip(10);
+        MultiDatastreamsResponse mdsResult = worker.getMultiDatastreams(mdsRequest);
+        Assert.assertEquals(7, mdsResult.getValue().size());
+        Assert.assertEquals(17, mdsResult.getIotCount().intValue());
+
+        // the following page of datastreams still use its own count
+        dsRequest = new GetDatastreams();
+        dsRequest.setCount(true);
+        dsRequest.setSkip(10);
+        dsResult = worker.getDatastreams(dsRequest);
+        Assert.assertEquals(26, dsResult.getValue().size());
+        Assert.assertEquals(36, dsResult.getIotCount().intValue());
+    }
+
     @Test
     @Order(order=11)
     public void getSensorByIdTest() throws Exception {
@@ -2250,6 +2282,44 @@ public class OM2STSWorkerTest extends SpringContextTest {
         Assert.assertEquals(expectedIds, resultIds);
     }
 
+    @Test
+    @Order(order=12)
+    public void getThingsExpandTest() throws Exception {
+        GetThings request = new GetThings();
+        request.getExpand().add("Datastreams");
+        request.getExpand().add("MultiDatastreams");
+        ThingsResponse result = worker.getThings(request);
+
+        Assert.assertEquals(19, result.getValue().size());
+
+        // the datastreams resolved for the whole page must be the same as the ones resolved for a single thing
+        for (Thing thing : result.getValue()) {
+            GetThingById byId = new GetThingById();
+            byId.setId(thing.getIotId());
+            byId.getExpand().add("Datastreams");
+            byId.getExpand().add("MultiDatastreams");
+            Thing expResult = worker.getThingById(byId);
+            Assert.assertEquals(expResult.getDatastreams(), thing.getDatastreams());
+            Assert.assertEquals(expResult.getMultiDatastreams(), thing.getMultiDatastreams());
+            Assert.assertEquals(expResult, thing);
+        }
+
+        GetSensors sRequest = new GetSensors();
+        sRequest.getExpand().add("Datastreams");
+        sRequest.getExpand().add("MultiDatastreams");
+        SensorsResponse sResult = worker.getSensors(sRequest);
+
+        Assert.assertEquals(19, sResult.getValue().size());
+
+        for (org.geotoolkit.sts.json.Sensor sensor : sResult.getValue()) {
+            GetSensorById byId = new GetSensorById();
+            byId.setId(sensor.getIotId());
+            byId.getExpand().add("Datastreams");
+            byId.getExpand().add("MultiDatastreams");
+            Assert.assertEquals(worker.getSensorById(byId), sensor);
+        }
+    }
+
     @Test
     @Order(order=13)
     public void getCapabilitiesTest() throws Exception {
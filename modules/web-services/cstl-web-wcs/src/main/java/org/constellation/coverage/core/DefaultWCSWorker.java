@@ -133,7 +133,6 @@ import org.geotoolkit.gml.xml.v311.EnvelopeType;
 import org.geotoolkit.gml.xml.v311.GridType;
 import org.geotoolkit.gml.xml.v321.AssociationRoleType;
 import org.geotoolkit.gml.xml.v321.FileType;
-import org.geotoolkit.gmlcov.geotiff.xml.v100.CompressionType;
 import org.geotoolkit.gmlcov.geotiff.xml.v100.ParametersType;
 import org.geotoolkit.gmlcov.xml.v100.AbstractDiscreteCoverageType;
 import org.geotoolkit.gmlcov.xml.v100.ObjectFactory;
@@ -1174,9 +1173,7 @@ public final class DefaultWCSWorker extends LayerWorker implements WCSWorker {
                     final ParametersType geoExt = ext.getForClass(ParametersType.class);
                     if (geoExt != null) {
                         if (geoExt.getCompression() != null) {
-                            if (geoExt.getCompression() == CompressionType.LZW ||
-                                geoExt.getCompression() == CompressionType.PACK_BITS ||
-                                geoExt.getCompression() == CompressionType.NONE) {
+                            if (GridCoverageWriter.isSupportedCompression(geoExt.getCompression().value())) {
                                 response.compression = geoExt.getCompression().value();
                             } else {
                                 throw new CstlServiceException("Server does not support the requested compression.", ExceptionCode.COMPRESSION_NOT_SUPPORTED, geoExt.getCompression().value());
@@ -1189,9 +1186,6 @@ public final class DefaultWCSWorker extends LayerWorker implements WCSWorker {
                             throw new CstlServiceException("Server does not support predictor.", ExceptionCode.PREDICTOR_NOT_SUPPORTED, geoExt.getPredictor().value());
                         }
                         if (geoExt.isTiling()) {
-                            if ("PackBits".equals(response.compression)) {
-                                throw new CstlServiceException("Server does not support Tiling for packbit compression.", ExceptionCode.TILING_NOT_SUPPORTED, "tiling");
-                            }
                             if (geoExt.getTileheight() != null && geoExt.getTilewidth() != null &&
                                 geoExt.getTileheight() > 0 && geoExt.getTilewidth() > 0 &&
                                 (geoExt.getTileheight() % 16 == 0) &&
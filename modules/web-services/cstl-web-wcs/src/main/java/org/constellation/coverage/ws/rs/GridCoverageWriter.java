@@ -20,11 +20,14 @@
 package org.constellation.coverage.ws.rs;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.logging.Logger;
 import org.apache.sis.coverage.Category;
 import org.apache.sis.coverage.SampleDimension;
@@ -39,6 +42,8 @@ import org.constellation.util.CRSUtilities;
 import org.geotoolkit.nio.IOUtilities;
 import org.apache.sis.coverage.grid.PixelInCell;
 import org.apache.sis.storage.DataStores;
+import org.apache.sis.storage.StorageConnector;
+import org.apache.sis.storage.geotiff.Compression;
 import org.apache.sis.storage.geotiff.GeoTiffStore;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
@@ -55,6 +60,11 @@ public class GridCoverageWriter implements HttpMessageConverter<GeotiffResponse>
 
     private static final Logger LOGGER = Logger.getLogger("org.constellation.coverage.ws.rs");
 
+    /**
+     * Compressions the SIS GeoTIFF writer is able to encode.
+     */
+    private static final Set<Compression> WRITABLE_COMPRESSIONS = EnumSet.of(Compression.NONE, Compression.LZW, Compression.DEFLATE);
+
     @Override
     public boolean canRead(Class<?> clazz, MediaType mediaType) {
         return false;
@@ -80,14 +90,10 @@ public class GridCoverageWriter implements HttpMessageConverter<GeotiffResponse>
         File f = null;
         try {
             f = writeInFile(entry);
-            byte[] buf = new byte[8192];
-            try (FileInputStream is = new FileInputStream(f);
-                    OutputStream out = outputMessage.getBody()) {
-                int c;
-                while ((c = is.read(buf, 0, buf.length)) > 0) {
-                    out.write(buf, 0, c);
-                    out.flush();
-                }
+            // the file is complete, announce its size and let the container stream it without intermediate flushes
+            outputMessage.getHeaders().setContentLength(f.length());
+            try (OutputStream out = outputMessage.getBody()) {
+                Files.copy(f.toPath(), out);
             }
         } catch (IOException ex) {
             throw ex;
@@ -139,24 +145,50 @@ public class GridCoverageWriter implements HttpMessageConverter<GeotiffResponse>
 
         // TIFF writer do no support writing in output stream currently, we have to write in a file before
         final File f = File.createTempFile("data", ".tiff");
-        try (final GeoTiffStore iowriter = (GeoTiffStore) DataStores.openWritable(f, "GeoTIFF")) {
-            
-        // TODO apply on new store
-        
-        /*TiffImageWriteParam param = new TiffImageWriteParam(iowriter);
-        if (entry.compression != null && !entry.compression.equals("NONE")) {
-            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-            param.setCompressionType(entry.compression);
-        }
-        if (entry.tiling) {
-            param.setTilingMode(ImageWriteParam.MODE_EXPLICIT);
-            param.setTiling(entry.tileWidth, entry.tileHeight, 0, 0);
+        final StorageConnector connector = new StorageConnector(f);
+        final Compression compression = getCompression(entry.compression);
+        if (compression != null) {
+            connector.setOption(Compression.OPTION_KEY, compression);
         }
-          iowriter.write(null, iioimage, param);
-        iowriter.dispose();
-         */
-        iowriter.append(coverage, null);
+        try (final GeoTiffStore iowriter = (GeoTiffStore) DataStores.openWritable(connector, "GeoTIFF")) {
+            // the store writes the tiles of the rendered image one by one, following the source tile layout.
+            iowriter.append(coverage, null);
         }
         return f;
     }
+
+    /**
+     * Tell if the GeoTIFF writer is able to apply the given WCS GeoTIFF extension compression.
+     *
+     * @param name compression name requested (None, LZW, Deflate, PackBits...).
+     * @return {@code true} if the compression can be written.
+     */
+    public static boolean isSupportedCompression(final String name) {
+        return name != null && parseCompression(name) != null;
+    }
+
+    /**
+     * Map the WCS GeoTIFF extension compression name to the GeoTIFF store compression.
+     *
+     * @param name compression name requested (LZW, Deflate, NONE), can be {@code null}.
+     * @return the store compression or {@code null} to keep the store default.
+     */
+    private static Compression getCompression(final String name) {
+        if (name == null) return null;
+        final Compression compression = parseCompression(name);
+        if (compression == null) {
+            LOGGER.warning("Unsupported compression for GeoTIFF writer: " + name + ". Using default compression.");
+        }
+        return compression;
+    }
+
+    private static Compression parseCompression(final String name) {
+        final Compression compression;
+        try {
+            compression = Compression.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        return WRITABLE_COMPRESSIONS.contains(compression) ? compression : null;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.constellation.coverage.ws.rs;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import org.apache.sis.coverage.grid.GridCoverage;
+import org.apache.sis.coverage.grid.GridCoverageBuilder;
+import org.apache.sis.geometry.GeneralEnvelope;
+import org.apache.sis.referencing.CommonCRS;
+import org.apache.sis.storage.Aggregate;
+import org.apache.sis.storage.DataStore;
+import org.apache.sis.storage.DataStores;
+import org.apache.sis.storage.GridCoverageResource;
+import org.apache.sis.storage.Resource;
+import org.geotoolkit.nio.IOUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GridCoverageWriterTest {
+
+    @Test
+    public void supportedCompressionTest() {
+        Assert.assertTrue(GridCoverageWriter.isSupportedCompression("None"));
+        Assert.assertTrue(GridCoverageWriter.isSupportedCompression("LZW"));
+        Assert.assertTrue(GridCoverageWriter.isSupportedCompression("Deflate"));
+        Assert.assertFalse(GridCoverageWriter.isSupportedCompression("JPEG"));
+        Assert.assertFalse(GridCoverageWriter.isSupportedCompression("Huffman"));
+        Assert.assertFalse(GridCoverageWriter.isSupportedCompression("unknown"));
+        Assert.assertFalse(GridCoverageWriter.isSupportedCompression(null));
+    }
+
+    @Test
+    public void writeCompressedTest() throws Exception {
+        final GridCoverage coverage = createCoverage();
+        final long uncompressedSize = writeAndCheck(coverage, "None");
+        Assert.assertTrue(writeAndCheck(coverage, "LZW") < uncompressedSize);
+        Assert.assertTrue(writeAndCheck(coverage, "Deflate") < uncompressedSize);
+    }
+
+    /**
+     * Write the coverage with the specified compression, read it back and compare the samples.
+     *
+     * @return the size of the written file.
+     */
+    private static long writeAndCheck(final GridCoverage coverage, final String compression) throws Exception {
+        final GeotiffResponse response = new GeotiffResponse();
+        response.coverage = coverage;
+        response.compression = compression;
+        final File f = GridCoverageWriter.writeInFile(response);
+        try (DataStore store = DataStores.open(f.toPath())) {
+            final GridCoverageResource resource = findCoverage(store);
+            Assert.assertNotNull(compression, resource);
+            final Raster expected = coverage.render(null).getData();
+            final Raster result = resource.read(null).render(null).getData();
+            Assert.assertEquals(compression, expected.getWidth(), result.getWidth());
+            Assert.assertEquals(compression, expected.getHeight(), result.getHeight());
+            for (int y = 0; y < expected.getHeight(); y++) {
+                for (int x = 0; x < expected.getWidth(); x++) {
+                    Assert.assertEquals(compression, expected.getSample(x, y, 0), result.getSample(x, y, 0));
+                }
+            }
+            return f.length();
+        } finally {
+            IOUtilities.deleteSilently(f.toPath());
+        }
+    }
+
+    private static GridCoverageResource findCoverage(final Resource resource) throws Exception {
+        if (resource instanceof GridCoverageResource gcr) {
+            return gcr;
+        } else if (resource instanceof Aggregate agg) {
+            for (Resource child : agg.components()) {
+                final GridCoverageResource gcr = findCoverage(child);
+                if (gcr != null) return gcr;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A coverage made of large uniform stripes, easy to compress.
+     */
+    private static GridCoverage createCoverage() {
+        final BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_BYTE_GRAY);
+        final WritableRaster raster = image.getRaster();
+        for (int y = 0; y < 256; y++) {
+            for (int x = 0; x < 256; x++) {
+                raster.setSample(x, y, 0, (y / 32) * 20);
+            }
+        }
+        final GeneralEnvelope env = new GeneralEnvelope(CommonCRS.defaultGeographic());
+        env.setRange(0, -10, 10);
+        env.setRange(1, -10, 10);
+        return new GridCoverageBuilder().setDomain(env).setValues(image).build();
+    }
+}
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
@@ -1051,9 +1052,10 @@ public class DefaultWFSWorker extends LayerWorker implements WFSWorker {
                  }
 
                 // look for matching count before pagination
+                final long colMatch;
                 try {
-                    Long colMatch = FeatureStoreUtilities.getCount(origin.subset(subquery));
-                    nbMatched = nbMatched + colMatch.intValue();
+                    colMatch = FeatureStoreUtilities.getCount(origin.subset(subquery));
+                    nbMatched = nbMatched + (int) colMatch;
                 } catch (DataStoreException ex) {
                     throw new CstlServiceException(ex);
                 }
@@ -1082,13 +1084,9 @@ public class DefaultWFSWorker extends LayerWorker implements WFSWorker {
                 // we verify that all the properties contained in the filter are known by the feature type.
                 verifyFilterProperty(NameOverride.wrap(ft, typeName), cleanFilter, aliases);
 
-                Long colSize;
-                try {
-                    colSize = FeatureStoreUtilities.getCount(collection);
-                    nbReturned = nbReturned + colSize.intValue();
-                } catch (DataStoreException ex) {
-                    throw new CstlServiceException(ex);
-                }
+                // the page size is deduced from the matching count, avoiding a second count on the datasource
+                final long colSize = getPageCount(colMatch, subquery);
+                nbReturned = nbReturned + (int) colSize;
 
                 if (colSize > 0 || singleCollectionRequested) {
                     if (queryCRS == null) {
@@ -1165,6 +1163,24 @@ public class DefaultWFSWorker extends LayerWorker implements WFSWorker {
         return new FeatureSetWrapper(collections, schemaLocations, gmlVersion, currentVersion, nbMatched, nbReturned, singleFeature);
     }
 
+    /**
+     * Return the number of features returned by a paginated query, from the number of features
+     * matching the query before pagination. This avoid to count a second time on the datasource.
+     *
+     * @param nbMatched Number of features matching the query before pagination.
+     * @param query The query with its offset / limit applied.
+     *
+     * @return the number of features in the requested page.
+     */
+    private static long getPageCount(final long nbMatched, final FeatureQuery query) {
+        final long remaining = Math.max(0, nbMatched - query.getOffset());
+        final OptionalLong limit = query.getLimit();
+        if (limit.isPresent()) {
+            return Math.min(remaining, limit.getAsLong());
+        }
+        return remaining;
+    }
+
     private boolean isAllFeatureTypes(List<QName> typeNames) {
         if (typeNames.isEmpty()) {
             return true;
@@ -1252,9 +1268,10 @@ public class DefaultWFSWorker extends LayerWorker implements WFSWorker {
                 subquery.setSelection(cleanFilter);
 
                 // look for matching count before pagination
+                final long colMatch;
                 try {
-                    Long colMatch = FeatureStoreUtilities.getCount(origin.subset(subquery));
-                    nbMatched = nbMatched + colMatch.intValue();
+                    colMatch = FeatureStoreUtilities.getCount(origin.subset(subquery));
+                    nbMatched = nbMatched + (int) colMatch;
                 } catch (DataStoreException ex) {
                     throw new CstlServiceException(ex);
                 }
@@ -1291,8 +1308,7 @@ public class DefaultWFSWorker extends LayerWorker implements WFSWorker {
                 try {
                     FeatureSet col = origin.subset(subquery);
 
-                    Long colSize = FeatureStoreUtilities.getCount(col);
-                    nbReturned = nbReturned + colSize.intValue();
+                    nbReturned = nbReturned + (int) getPageCount(colMatch, subquery);
 
                     if (crs != null) {
                         col = col.subset(org.geotoolkit.storage.feature.query.Query.reproject(col.getType(), crs));
@@ -2381,7 +2397,8 @@ public class DefaultWFSWorker extends LayerWorker implements WFSWorker {
             if (query != null) {
                 fs = fs.subset(query);
             }
-            Integer nbMatched =  includedMatched ? FeatureStoreUtilities.getCount(fs).intValue() : null;
+            final Long colMatch = includedMatched ? FeatureStoreUtilities.getCount(fs) : null;
+            Integer nbMatched   = colMatch != null ? colMatch.intValue() : null;
 
            /*
             * Apply paging
@@ -2391,7 +2408,7 @@ public class DefaultWFSWorker extends LayerWorker implements WFSWorker {
             reduced.setOffset(offset);
             fs = fs.subset(reduced);
 
-            Integer nbReturned = includedMatched ? FeatureStoreUtilities.getCount(fs).intValue() : null;
+            Integer nbReturned = colMatch != null ? (int) getPageCount(colMatch, reduced) : null;
 
             return new FeatureSetWrapper(fs, new ArrayList<>(), new HashMap<>(), nbMatched, nbReturned);
         } catch (DataStoreException ex) {
@@ -18,6 +18,7 @@
  */
 package org.constellation.map.core;
 
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.annotation.Timed;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -41,7 +42,6 @@ import org.apache.sis.geometry.Envelopes;
 import org.apache.sis.measure.Range;
 import org.apache.sis.referencing.CRS;
 import org.apache.sis.referencing.CommonCRS;
-import org.apache.sis.referencing.IdentifiedObjects;
 import org.apache.sis.referencing.crs.AbstractCRS;
 import org.apache.sis.referencing.cs.AxesConvention;
 import org.apache.sis.storage.DataStoreException;
@@ -67,11 +67,13 @@ import org.constellation.portrayal.CstlPortrayalService;
 import org.constellation.portrayal.PortrayalResponse;
 import org.constellation.provider.CoverageData;
 import org.constellation.provider.Data;
+import org.constellation.util.CRSUtilities;
 import org.constellation.util.Util;
 import org.constellation.ws.CstlServiceException;
 import org.constellation.ws.LayerCache;
 import org.constellation.ws.LayerWorker;
 import org.constellation.ws.MimeType;
+import org.constellation.ws.rs.OGCMetrics;
 import org.geotoolkit.display.PortrayalException;
 import org.geotoolkit.display2d.ext.legend.DefaultLegendService;
 import org.geotoolkit.display2d.ext.legend.LegendTemplate;
@@ -340,7 +342,7 @@ public class DefaultWMSWorker extends LayerWorker implements WMSWorker {
             String nativeCrsCode = null;
             try {
                if (nativeCRS != null) {
-                   final Integer epsgCode = IdentifiedObjects.lookupEPSG(nativeCRS);
+                   final Integer epsgCode = CRSUtilities.lookupEPSG(nativeCRS);
                    if (epsgCode != null) {
                        nativeCrsCode = "EPSG:" + epsgCode;
                    }
@@ -374,14 +376,13 @@ public class DefaultWMSWorker extends LayerWorker implements WMSWorker {
             try {
                 final SortedSet<Date> dates = layer.getAvailableTimes();
                 if (!dates.isEmpty()) {
-                    final DateFormat df = getDateFormatter();
-                    synchronized (df) {
-                        final PeriodUtilities periodFormatter = new PeriodUtilities(df);
-                        final String defaut = df.format(dates.last());
-                        AbstractDimension dim = createDimension(queryVersion, "time", "ISO8601", defaut, null);
-                        dim.setValue(periodFormatter.getDatesRespresentation(dates));
-                        dimensions.add(dim);
-                    }
+                    // a copy of the shared format, so the layers dates are not formatted one layer at a time
+                    final DateFormat df = (DateFormat) getDateFormatter().clone();
+                    final PeriodUtilities periodFormatter = new PeriodUtilities(df);
+                    final String defaut = df.format(dates.last());
+                    AbstractDimension dim = createDimension(queryVersion, "time", "ISO8601", defaut, null);
+                    dim.setValue(periodFormatter.getDatesRespresentation(dates));
+                    dimensions.add(dim);
                 }
             } catch (ConstellationStoreException ex) {
                 LOGGER.log(Level.WARNING, "Error retrieving dates values for the layer :" + layer.getName(), ex);
@@ -1028,6 +1029,9 @@ public class DefaultWMSWorker extends LayerWorker implements WMSWorker {
         final boolean errorInImage = WMSConstant.isErrorInImage(errorType, queryVersion);
         final boolean errorBlank   = WMSConstant.isErrorBlank(errorType, queryVersion);
 
+        // phase timers are only recorded for the phases that complete
+        final Timer.Context resolve = OGCMetrics.phase("wms", "getmap", "resolve").time();
+
         // get the List of layer references
         final List<String> layerNames = getMap.getLayers();
 
@@ -1073,6 +1077,7 @@ public class DefaultWMSWorker extends LayerWorker implements WMSWorker {
 
         // Build additional filters
         List<Filter> extraFilters = extractAdditionalFilters(getMap);
+        resolve.stop();
 
         final SceneDef sdef = new SceneDef();
         sdef.extensions().add(mapPortrayal.getExtension());
@@ -1087,7 +1092,7 @@ public class DefaultWMSWorker extends LayerWorker implements WMSWorker {
             sdef.getHints().putAll(hints);
         }
 
-        try {
+        try (Timer.Context read = OGCMetrics.phase("wms", "getmap", "read").time()) {
             final MapLayers context = mapBusiness.createContext(layersCache, styles, Collections.EMPTY_LIST, extraFilters, refEnv, extraParams);
             sdef.setContext(context);
         } catch (ConstellationStoreException ex) {
@@ -1115,7 +1120,7 @@ public class DefaultWMSWorker extends LayerWorker implements WMSWorker {
 
         final PortrayalResponse response = new PortrayalResponse(cdef, sdef, odef);
         if (!mapPortrayal.isCoverageWriter() && DefaultPortrayalService.isImageFormat(odef.getMime())) {
-            try {
+            try (Timer.Context render = OGCMetrics.phase("wms", "getmap", "render").time()) {
                 response.prepareNow();
             } catch (PortrayalException ex) {
                 return handleExceptions(getMap, errorInImage, errorBlank, ex, NO_APPLICABLE_CODE, null);
@@ -53,6 +53,7 @@ import org.constellation.dto.contact.Details;
 import org.constellation.exception.ConstellationStoreException;
 import org.constellation.map.featureinfo.FeatureInfoFormat;
 import org.constellation.provider.Data;
+import org.constellation.util.CRSUtilities;
 import org.constellation.util.Util;
 import org.constellation.ws.CstlServiceException;
 import org.constellation.ws.LayerCache;
@@ -68,7 +69,7 @@ import org.apache.sis.storage.tiling.Tile;
 import org.apache.sis.storage.tiling.TileStatus;
 import org.apache.sis.storage.tiling.TiledResource;
 import org.apache.sis.style.Style;
-import org.geotoolkit.internal.referencing.CRSUtilities;
+import static org.geotoolkit.internal.referencing.CRSUtilities.firstHorizontalAxis;
 import org.geotoolkit.ows.xml.AbstractCapabilitiesCore;
 import static org.geotoolkit.ows.xml.OWSExceptionCode.*;
 
@@ -306,7 +307,7 @@ public class DefaultWMTSWorker extends LayerWorker implements WMTSWorker {
                     }
 
                     final CoordinateReferenceSystem pyramidSetEnvCRS = pyramidSetEnv.getCoordinateReferenceSystem();
-                    final int xAxis = Math.max(0, CRSUtilities.firstHorizontalAxis(pyramidSetEnvCRS));
+                    final int xAxis = Math.max(0, firstHorizontalAxis(pyramidSetEnvCRS));
                     final int yAxis = xAxis + 1;
 
                     /* We get pyramid set CRS components to identify additional dimensions. We remove horizontal component
@@ -346,7 +347,7 @@ public class DefaultWMTSWorker extends LayerWorker implements WMTSWorker {
                     final List<BoundingBoxType> bboxList = new ArrayList<>();
                     for (org.apache.sis.storage.tiling.TileMatrixSet pyramid : pyramids) {
                         final Envelope pyramidEnv = pyramid.getEnvelope().get();
-                        final int envXAxis = Math.max(0, CRSUtilities.firstHorizontalAxis(pyramid.getCoordinateReferenceSystem()));
+                        final int envXAxis = Math.max(0, firstHorizontalAxis(pyramid.getCoordinateReferenceSystem()));
                         final int envYAxis = xAxis + 1;
                         final BoundingBoxType bbox = new BoundingBoxType(
                                 getCRSCode(pyramid.getCoordinateReferenceSystem()),
@@ -583,7 +584,7 @@ public class DefaultWMTSWorker extends LayerWorker implements WMTSWorker {
             return "urn:ogc:def:crs:OGC:2:84";
         } else {
             try {
-                final Integer identifier = IdentifiedObjects.lookupEPSG(horizontal);
+                final Integer identifier = CRSUtilities.lookupEPSG(horizontal);
                 if (identifier != null) {
                     return "EPSG:"+identifier;
                 }
@@ -53,6 +53,7 @@ import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
@@ -62,6 +63,7 @@ import javax.xml.datatype.XMLGregorianCalendar;
 import org.apache.sis.util.Version;
 import org.constellation.admin.SpringHelper;
 import static org.constellation.api.QueryConstants.SERVICE_PARAMETER;
+import static org.constellation.ws.ExceptionCode.SERVER_BUSY;
 import org.constellation.api.ServiceDef;
 import org.constellation.dto.contact.Details;
 import org.constellation.dto.service.config.wps.Process;
@@ -851,25 +853,9 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
 
                 if(directRun) {
                     //run process in asynchronous
-                    new Thread(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                // Prepare and launch process in a separate thread.
-                                jobExecutor.submit(process);
-                            } catch (Exception e) {
-                                // If we've got an exception, input parsing must have failed.
-                                XMLGregorianCalendar creationTime = WPSUtils.getCurrentXMLGregorianCalendar();
-                                ExceptionResponse exceptionReport = new ExceptionReport(Exceptions.formatStackTrace(e), null, null, ServiceDef.WPS_1_0_0.exceptionVersion.toString());
-
-                                StatusInfo status = new StatusInfo(Status.FAILED, creationTime, exceptionReport.toString(), jobId);
-                                WPSUtils.storeResponse(status, productFolderPath, jobId);
-                                execInfo.setStatus(jobId, status);
-                            }
-                        }
-                    }).start();
+                    submitJob(jobId, SimpleJobExecutor.NORMAL_PRIORITY, process);
 
-                    return new StatusInfo(Status.ACCEPTED, creationTime, "Process " + request.getIdentifier().getValue() + " accepted.", jobId);
+                    return new StatusInfo(Status.ACCEPTED, creationTime, getAcceptedMessage(request, jobId), jobId);
                 } else {
                     try {
                         executeRequestToBeRun.put(jobId, request);
@@ -884,7 +870,7 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
             ////////
             } else {
                 ParameterValueGroup result;
-                final Future<ParameterValueGroup> future = jobExecutor.submit(process);
+                final Future<ParameterValueGroup> future = submitJob(jobId, SimpleJobExecutor.HIGH_PRIORITY, process);
                 try {
                     result = future.get();
 
@@ -954,7 +940,7 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
 
                 if(directRun) {
                     //run process in asynchronous
-                    jobExecutor.submit(() -> {
+                    submitJob(jobId, SimpleJobExecutor.NORMAL_PRIORITY, () -> {
                         try {
                             // Prepare and launch process in a separate thread.
                             process.call();
@@ -967,9 +953,10 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
                             final Result response1 = new Result(WPS_SERVICE, version, lang.toLanguageTag(), serviceInstance, procSum, inputsResponse, outputsResponse, null, status1, jobId);
                             WPSUtils.storeResponse(response1, productFolderPath, jobId);
                         }
+                        return null;
                     });
 
-                    StatusInfo status = new StatusInfo(Status.ACCEPTED, creationTime, "Process " + request.getIdentifier().getValue() + " accepted.", jobId);
+                    StatusInfo status = new StatusInfo(Status.ACCEPTED, creationTime, getAcceptedMessage(request, jobId), jobId);
                     final Result response = new Result(WPS_SERVICE, version, lang.toLanguageTag(), serviceInstance, procSum, inputsResponse, outputsResponse, null, status, jobId);
                     response.setStatusLocation(productURL + "/" + jobId); //Output data URL
 
@@ -996,7 +983,7 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
             ////////////////////////
             } else {
 
-                final Future<ParameterValueGroup> future = jobExecutor.submit(process);
+                final Future<ParameterValueGroup> future = submitJob(jobId, SimpleJobExecutor.HIGH_PRIORITY, process);
 
                 ParameterValueGroup result = null;
                 ExceptionResponse report = null;
@@ -1103,25 +1090,16 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
         final String serviceInstance = getServiceUrl() + "SERVICE=WPS&REQUEST=GetCapabilities";
 
         if (isOutputRaw) {
-            new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        // Prepare and launch process in a separate thread.
-                        jobExecutor.submit(process);
-                    } catch (Exception e) {
-                        // If we've got an exception, input parsing must have failed.
-                        XMLGregorianCalendar creationTime = WPSUtils.getCurrentXMLGregorianCalendar();
-                        ExceptionResponse exceptionReport = new ExceptionReport(Exceptions.formatStackTrace(e), null, null, ServiceDef.WPS_1_0_0.exceptionVersion.toString());
-
-                        StatusInfo status = new StatusInfo(Status.FAILED, creationTime, exceptionReport.toString(), jobId);
-                        WPSUtils.storeResponse(status, productFolderPath, jobId);
-                        execInfo.setStatus(jobId, status);
-                    }
-                }
-            }).start();
-
             executeRequestToBeRun.remove(jobId);
+            try {
+                submitJob(jobId, SimpleJobExecutor.NORMAL_PRIORITY, process);
+            } catch (CstlServiceException ex) {
+                // the job is already registered, record its failure
+                StatusInfo status = new StatusInfo(Status.FAILED, WPSUtils.getCurrentXMLGregorianCalendar(), ex.getMessage(), jobId);
+                WPSUtils.storeResponse(status, productFolderPath, jobId);
+                execInfo.setStatus(jobId, status);
+                throw ex;
+            }
 
             StatusInfo statusInfo;
             try {
@@ -1130,27 +1108,37 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
                 throw new RuntimeException(e);
             }
 
-            return new StatusInfo(Status.ACCEPTED, statusInfo.getCreationTime(), "Process " + request.getIdentifier().getValue() + " accepted.", jobId);
+            return new StatusInfo(Status.ACCEPTED, statusInfo.getCreationTime(), getAcceptedMessage(request, jobId), jobId);
 
         } else {
-            //run process in asynchronous
-            jobExecutor.submit(() -> {
-                try {
-                    // Prepare and launch process in a separate thread.
-                    process.call();
-                } catch (Exception e) {
-                    LOGGER.log(Level.WARNING, "Error while executing synchronous process", e);
-                    // If we've got an exception, input parsing must have failed.
-                    XMLGregorianCalendar creationTime1 = WPSUtils.getCurrentXMLGregorianCalendar();
-                    ExceptionResponse exceptionReport = new ExceptionReport(Exceptions.formatStackTrace(e), null, null, ServiceDef.WPS_1_0_0.exceptionVersion.toString());
-                    StatusInfo status1 = new StatusInfo(Status.FAILED, creationTime1, exceptionReport.toString(), jobId);
-                    final Result response1 = new Result(WPS_SERVICE, version, lang.toLanguageTag(), serviceInstance, procSum, inputsResponse, outputsResponse, null, status1, jobId);
-                    WPSUtils.storeResponse(response1, productFolderPath, jobId);
-                }
-            });
-
             executeRequestToBeRun.remove(jobId);
 
+            //run process in asynchronous
+            try {
+                submitJob(jobId, SimpleJobExecutor.NORMAL_PRIORITY, () -> {
+                    try {
+                        // Prepare and launch process in a separate thread.
+                        process.call();
+                    } catch (Exception e) {
+                        LOGGER.log(Level.WARNING, "Error while executing synchronous process", e);
+                        // If we've got an exception, input parsing must have failed.
+                        XMLGregorianCalendar creationTime1 = WPSUtils.getCurrentXMLGregorianCalendar();
+                        ExceptionResponse exceptionReport = new ExceptionReport(Exceptions.formatStackTrace(e), null, null, ServiceDef.WPS_1_0_0.exceptionVersion.toString());
+                        StatusInfo status1 = new StatusInfo(Status.FAILED, creationTime1, exceptionReport.toString(), jobId);
+                        final Result response1 = new Result(WPS_SERVICE, version, lang.toLanguageTag(), serviceInstance, procSum, inputsResponse, outputsResponse, null, status1, jobId);
+                        WPSUtils.storeResponse(response1, productFolderPath, jobId);
+                    }
+                    return null;
+                });
+            } catch (CstlServiceException ex) {
+                // the job is already registered, record its failure
+                StatusInfo status = new StatusInfo(Status.FAILED, WPSUtils.getCurrentXMLGregorianCalendar(), ex.getMessage(), jobId);
+                final Result response = new Result(WPS_SERVICE, version, lang.toLanguageTag(), serviceInstance, procSum, inputsResponse, outputsResponse, null, status, jobId);
+                WPSUtils.storeResponse(response, productFolderPath, jobId);
+                execInfo.setStatus(jobId, status);
+                throw ex;
+            }
+
             StatusInfo statusInfo;
             try {
                 statusInfo = execInfo.getStatus(jobId);
@@ -1158,7 +1146,7 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
                 throw new RuntimeException(e);
             }
 
-            StatusInfo status = new StatusInfo(Status.ACCEPTED, statusInfo.getCreationTime(), "Process " + request.getIdentifier().getValue() + " accepted.", jobId);
+            StatusInfo status = new StatusInfo(Status.ACCEPTED, statusInfo.getCreationTime(), getAcceptedMessage(request, jobId), jobId);
             final Result response = new Result(WPS_SERVICE, version, lang.toLanguageTag(), serviceInstance, procSum, inputsResponse, outputsResponse, null, status, jobId);
             response.setStatusLocation(productURL + "/" + jobId); //Output data URL
 
@@ -1188,6 +1176,33 @@ public class DefaultWPSWorker extends AbstractWorker<ProcessContext> implements
         return parameters;
     }
 
+    /**
+     * Submit a job to the executor on behalf of the current user, reporting a busy server if the job limit is reached.
+     *
+     * @param jobId job identifier.
+     * @param priority {@link SimpleJobExecutor#HIGH_PRIORITY} if the client is waiting for the result.
+     * @param job the job to run.
+     */
+    private <T> Future<T> submitJob(final String jobId, final int priority, final Callable<T> job) throws CstlServiceException {
+        final String owner = SecurityManagerHolder.getInstance().getCurrentUserLogin();
+        try {
+            return jobExecutor.submit(jobId, owner, priority, job);
+        } catch (RejectedExecutionException ex) {
+            throw new CstlServiceException("The server is busy, too many processes are running or waiting. Please retry later.", ex, SERVER_BUSY);
+        }
+    }
+
+    /**
+     * Build the message of an accepted job status, giving its position when it waits for an execution slot.
+     */
+    private String getAcceptedMessage(final Execute request, final String jobId) {
+        final int position = jobExecutor.getQueuePosition(jobId);
+        if (position > 0) {
+            return "Process " + request.getIdentifier().getValue() + " accepted (position " + position + " in the queue).";
+        }
+        return "Process " + request.getIdentifier().getValue() + " accepted.";
+    }
+
     /**
      * Search for an existing process descriptor and then verify if the descriptor is linked to the current WPS instance.
      *
@@ -1,39 +1,277 @@
 package com.examind.wps.util;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
 import jakarta.annotation.PreDestroy;
+import org.constellation.configuration.AppProperty;
+import org.constellation.configuration.Application;
+import org.constellation.ws.rs.OGCWebService;
 import org.springframework.stereotype.Component;
 
 /**
- * TODO: Set number of concurrent execution configurable.
+ * Executor running the WPS jobs.
+ *
+ * The number of concurrent jobs can be limited with the {@link AppProperty#EXA_WPS_MAX_RUNNING_JOBS} property.
+ * In that case, the jobs exceeding the limit wait in a queue of {@link AppProperty#EXA_WPS_JOB_QUEUE_SIZE} slots,
+ * ordered by priority then by submission order, and a {@link RejectedExecutionException} is thrown when the queue is full.
+ *
+ * The number of jobs running or waiting for a same user can also be limited with the
+ * {@link AppProperty#EXA_WPS_MAX_JOBS_PER_USER} property.
+ *
+ * The running and queued job counts are published as gauges in the shared metric registry.
  *
  * @author Alexis Manin (Geomatys)
  */
 @Component
 public class SimpleJobExecutor implements AutoCloseable {
 
+    private static final Logger LOGGER = Logger.getLogger("com.examind.wps.util");
+
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+
+    /**
+     * Priority of the jobs whose client is waiting for the result (synchronous executions).
+     */
+    public static final int HIGH_PRIORITY = 1;
+
+    /**
+     * Priority of the asynchronous jobs.
+     */
+    public static final int NORMAL_PRIORITY = 0;
+
+    static final String QUEUED_METRIC  = MetricRegistry.name("wps", "jobs", "queued");
+    static final String RUNNING_METRIC = MetricRegistry.name("wps", "jobs", "running");
+
     /**
      * Executor thread pool.
      */
     private final ExecutorService executor;
 
+    /**
+     * Maximum number of waiting jobs, only used when the concurrent executions are limited.
+     */
+    private final int queueSize;
+
+    /**
+     * Maximum number of running or waiting jobs for a same user, or -1 if there is no limit.
+     */
+    private final int maxJobsPerUser;
+
+    /**
+     * Number of running or waiting jobs by user.
+     */
+    private final Map<String, AtomicInteger> userJobs = new ConcurrentHashMap<>();
+
+    /**
+     * Number of running jobs.
+     */
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * Submission counter, used to keep the submission order between jobs of same priority.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
     private SimpleJobExecutor() {
-        // TODO: change executor type according to concurrent job limitation (i.e create a fixedthreadpool, etc.)
-        executor = Executors.newCachedThreadPool(new SimpleThreadFactory());
+        this(Application.getIntegerProperty(AppProperty.EXA_WPS_MAX_RUNNING_JOBS, -1),
+             Application.getIntegerProperty(AppProperty.EXA_WPS_JOB_QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+             Application.getIntegerProperty(AppProperty.EXA_WPS_MAX_JOBS_PER_USER, -1));
+    }
+
+    SimpleJobExecutor(final int maxRunningJobs, final int queueSize, final int maxJobsPerUser) {
+        this.queueSize = Math.max(1, queueSize);
+        this.maxJobsPerUser = maxJobsPerUser;
+        if (maxRunningJobs > 0) {
+            // the queue is bounded at submission, a priority queue can not be created with a maximum capacity.
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(maxRunningJobs, maxRunningJobs, 60L, TimeUnit.SECONDS,
+                                                                   new PriorityBlockingQueue<>(), new SimpleThreadFactory());
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+            LOGGER.info("WPS jobs limited to " + maxRunningJobs + " concurrent executions (" + this.queueSize + " waiting slots).");
+        } else {
+            executor = Executors.newCachedThreadPool(new SimpleThreadFactory());
+        }
+        final MetricRegistry metrics = SharedMetricRegistries.getOrCreate(OGCWebService.METRICS_REGISTRY);
+        metrics.remove(QUEUED_METRIC);
+        metrics.remove(RUNNING_METRIC);
+        metrics.register(QUEUED_METRIC, (Gauge<Integer>) this::getQueuedJobCount);
+        metrics.register(RUNNING_METRIC, (Gauge<Integer>) this::getRunningJobCount);
+    }
+
+    /**
+     * Return the number of jobs waiting for an execution slot.
+     *
+     * @return the number of queued jobs, always 0 if the concurrent executions are not limited.
+     */
+    public int getQueuedJobCount() {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            return pool.getQueue().size();
+        }
+        return 0;
+    }
+
+    /**
+     * Return the number of jobs currently running.
+     *
+     * @return the number of running jobs.
+     */
+    public int getRunningJobCount() {
+        return running.get();
+    }
+
+    /**
+     * Return the number of jobs running or waiting for the specified user.
+     *
+     * @param owner user login, {@code null} for anonymous users.
+     * @return the number of jobs of the user.
+     */
+    public int getUserJobCount(final String owner) {
+        final AtomicInteger count = userJobs.get(ownerKey(owner));
+        return count != null ? count.get() : 0;
     }
 
+    /**
+     * Return the position of a job in the waiting queue.
+     *
+     * @param jobId job identifier.
+     * @return the position (starting at 1) of the job in the queue, or 0 if the job is not waiting.
+     */
+    public int getQueuePosition(final String jobId) {
+        if (jobId != null && executor instanceof ThreadPoolExecutor pool) {
+            final Object[] waiting = pool.getQueue().toArray();
+            Arrays.sort(waiting);
+            for (int i = 0; i < waiting.length; i++) {
+                if (jobId.equals(((JobTask) waiting[i]).jobId)) {
+                    return i + 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Submit an anonymous job for execution, with a normal priority.
+     *
+     * @throws RejectedExecutionException if the maximum number of running and waiting jobs is reached.
+     */
     public <T> Future<T> submit(final Callable<T> job) {
-        return executor.submit(job);
+        return submit(null, null, NORMAL_PRIORITY, job);
     }
 
+    /**
+     * Submit an anonymous job for execution, with a normal priority.
+     *
+     * @throws RejectedExecutionException if the maximum number of running and waiting jobs is reached.
+     */
     public Future<?> submit(final Runnable job) {
-        return executor.submit(job);
+        return submit(null, null, NORMAL_PRIORITY, Executors.callable(job));
+    }
+
+    /**
+     * Submit a job for execution.
+     *
+     * @param jobId job identifier, used to find the job position in the queue. Can be {@code null}.
+     * @param owner login of the user submitting the job, {@code null} for anonymous users.
+     * @param priority jobs with a higher priority leave the queue first.
+     * @param job the job to run.
+     *
+     * @throws RejectedExecutionException if the maximum number of running and waiting jobs is reached,
+     *                                    globally or for the user.
+     */
+    public <T> Future<T> submit(final String jobId, final String owner, final int priority, final Callable<T> job) {
+        final String key = ownerKey(owner);
+        final AtomicInteger userCount = userJobs.computeIfAbsent(key, k -> new AtomicInteger());
+        if (userCount.incrementAndGet() > maxJobsPerUser && maxJobsPerUser > 0) {
+            userCount.decrementAndGet();
+            throw new RejectedExecutionException("Too many jobs running or waiting for the user " + key + ".");
+        }
+        final JobTask<T> task = new JobTask<>(jobId, key, priority, sequence.getAndIncrement(), job);
+        try {
+            if (executor instanceof ThreadPoolExecutor pool) {
+                synchronized (this) {
+                    if (pool.getQueue().size() >= queueSize) {
+                        throw new RejectedExecutionException("The WPS job queue is full (" + queueSize + " waiting jobs).");
+                    }
+                    pool.execute(task);
+                }
+            } else {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException ex) {
+            release(key);
+            throw ex;
+        }
+        return task;
+    }
+
+    private void release(final String key) {
+        final AtomicInteger userCount = userJobs.get(key);
+        if (userCount != null) {
+            userCount.decrementAndGet();
+        }
+    }
+
+    private static String ownerKey(final String owner) {
+        return owner != null ? owner : "anonymous";
+    }
+
+    /**
+     * A submitted job, ordered by priority then by submission order in the waiting queue.
+     */
+    private final class JobTask<T> extends FutureTask<T> implements Comparable<JobTask<?>> {
+
+        private final String jobId;
+        private final String owner;
+        private final int priority;
+        private final long order;
+
+        private JobTask(final String jobId, final String owner, final int priority, final long order, final Callable<T> job) {
+            super(job);
+            this.jobId = jobId;
+            this.owner = owner;
+            this.priority = priority;
+            this.order = order;
+        }
+
+        @Override
+        public void run() {
+            running.incrementAndGet();
+            try {
+                super.run();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        protected void done() {
+            release(owner);
+        }
+
+        @Override
+        public int compareTo(final JobTask<?> other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(order, other.order);
+        }
     }
 
     @PreDestroy
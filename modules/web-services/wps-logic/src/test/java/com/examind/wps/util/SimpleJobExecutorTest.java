@@ -0,0 +1,129 @@
+/*
+ *    Examind Community - An open source and standard compliant SDI
+ *    https://community.examind.com/
+ *
+ * Copyright 2026 Geomatys.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.examind.wps.util;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.SharedMetricRegistries;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.constellation.ws.rs.OGCWebService;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SimpleJobExecutorTest {
+
+    @Test
+    public void saturationTest() throws Exception {
+        try (SimpleJobExecutor executor = new SimpleJobExecutor(1, 2, -1)) {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+            final Future<String> running = executor.submit("job-1", "user", SimpleJobExecutor.NORMAL_PRIORITY, () -> {
+                started.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                executionOrder.add("job-1");
+                return "job-1";
+            });
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            final Future<String> queued1 = executor.submit("job-2", "user", SimpleJobExecutor.NORMAL_PRIORITY, () -> {
+                executionOrder.add("job-2");
+                return "job-2";
+            });
+            final Future<String> queued2 = executor.submit("job-3", "other", SimpleJobExecutor.HIGH_PRIORITY, () -> {
+                executionOrder.add("job-3");
+                return "job-3";
+            });
+
+            Assert.assertEquals(1, executor.getRunningJobCount());
+            Assert.assertEquals(2, executor.getQueuedJobCount());
+            Assert.assertEquals(2, getGauge(SimpleJobExecutor.QUEUED_METRIC));
+            Assert.assertEquals(1, getGauge(SimpleJobExecutor.RUNNING_METRIC));
+
+            // the job of higher priority is placed before in the queue
+            Assert.assertEquals(0, executor.getQueuePosition("job-1"));
+            Assert.assertEquals(2, executor.getQueuePosition("job-2"));
+            Assert.assertEquals(1, executor.getQueuePosition("job-3"));
+
+            // the queue is full
+            try {
+                executor.submit("job-4", "user", SimpleJobExecutor.HIGH_PRIORITY, () -> "job-4");
+                Assert.fail("The job should have been rejected");
+            } catch (RejectedExecutionException ex) {
+                // expected
+            }
+            Assert.assertEquals(2, executor.getUserJobCount("user"));
+
+            release.countDown();
+            Assert.assertEquals("job-1", running.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals("job-2", queued1.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals("job-3", queued2.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(List.of("job-1", "job-3", "job-2"), executionOrder);
+
+            // the counters are updated just after the job result is set
+            waitFor(() -> executor.getRunningJobCount() == 0 && executor.getUserJobCount("user") == 0 && executor.getUserJobCount("other") == 0);
+            Assert.assertEquals(0, executor.getQueuedJobCount());
+        }
+    }
+
+    @Test
+    public void userQuotaTest() throws Exception {
+        try (SimpleJobExecutor executor = new SimpleJobExecutor(-1, 0, 2)) {
+            final CountDownLatch release = new CountDownLatch(1);
+            final Future<?> job1 = executor.submit("job-1", "user", SimpleJobExecutor.NORMAL_PRIORITY, () -> release.await(10, TimeUnit.SECONDS));
+            final Future<?> job2 = executor.submit("job-2", "user", SimpleJobExecutor.NORMAL_PRIORITY, () -> release.await(10, TimeUnit.SECONDS));
+            try {
+                executor.submit("job-3", "user", SimpleJobExecutor.NORMAL_PRIORITY, () -> "job-3");
+                Assert.fail("The job should have been rejected");
+            } catch (RejectedExecutionException ex) {
+                // expected
+            }
+
+            // other users are not affected
+            Assert.assertEquals("job-4", executor.submit("job-4", null, SimpleJobExecutor.NORMAL_PRIORITY, () -> "job-4").get(10, TimeUnit.SECONDS));
+
+            release.countDown();
+            job1.get(10, TimeUnit.SECONDS);
+            job2.get(10, TimeUnit.SECONDS);
+            waitFor(() -> executor.getUserJobCount("user") == 0);
+
+            // the slots are released once the jobs are done
+            Assert.assertEquals("job-5", executor.submit("job-5", "user", SimpleJobExecutor.NORMAL_PRIORITY, () -> "job-5").get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long limit = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("Timeout while waiting for the job counters", System.currentTimeMillis() < limit);
+            Thread.sleep(10);
+        }
+    }
+
+    private static Object getGauge(final String name) {
+        return ((Gauge) SharedMetricRegistries.getOrCreate(OGCWebService.METRICS_REGISTRY).getGauges().get(name)).getValue();
+    }
+}